@@ -0,0 +1,110 @@
+package com.discoverapp.config;
+
+import com.discoverapp.util.MdcTaskDecorator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+    // With spring.threads.virtual.enabled=true on Java 21+, Boot moves Tomcat, @Scheduled and the default
+    // executor to virtual threads; the I/O-bound pools below follow. CPU-bound pools (BCrypt, automaton
+    // builds) stay on platform threads, where their size is what bounds CPU use.
+    @Autowired
+    private Environment environment;
+
+    // Channel purges are long-running, so they get their own small pool instead of sharing the default one
+    @Bean(name = "channelPurgeExecutor")
+    public Executor channelPurgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("channel-purge-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        if (virtualThreads()) {
+            // Still a bounded pool (purges are heavy on the database), just with virtual workers
+            executor.setThreadFactory(new VirtualThreadTaskExecutor("channel-purge-").getVirtualThreadFactory());
+        }
+        executor.initialize();
+        return executor;
+    }
+
+    // Single long-lived worker that drains the message moderation queue
+    @Bean(name = "moderationExecutor")
+    public Executor moderationExecutor() {
+        if (virtualThreads()) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("moderation-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("moderation-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    // Rebuilds of the content filter automaton; only the latest rebuild matters, so one thread is enough
+    @Bean(name = "contentFilterExecutor")
+    public Executor contentFilterExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("content-filter-");
+        executor.initialize();
+        return executor;
+    }
+
+    // BCrypt is deliberately slow; capping the threads and the queue keeps a login storm from eating every CPU.
+    // Work beyond the queue is rejected (AbortPolicy) and answered with 429.
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${auth.password-hash.threads:2}") int threads,
+            @Value("${auth.password-hash.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    // One thread per content type so the post-startup genre refresh runs its upstream calls in parallel
+    @Bean(name = "genreBootstrapExecutor")
+    public Executor genreBootstrapExecutor() {
+        if (virtualThreads()) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("genre-bootstrap-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(3);
+        executor.setMaxPoolSize(3);
+        executor.setQueueCapacity(10);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("genre-bootstrap-");
+        executor.initialize();
+        return executor;
+    }
+
+    private boolean virtualThreads() {
+        return Threading.VIRTUAL.isActive(environment);
+    }
+}
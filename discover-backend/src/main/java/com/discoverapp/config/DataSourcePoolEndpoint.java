@@ -0,0 +1,42 @@
+package com.discoverapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * /actuator/dbpool: a snapshot of every Hikari pool (primary and, when configured, replica).
+ * "waiting" is the number of threads blocked on getConnection; if it stays above 0 the pool is the bottleneck.
+ * The same numbers are exported continuously as hikaricp.connections.* metrics.
+ */
+@Component
+@Endpoint(id = "dbpool")
+public class DataSourcePoolEndpoint {
+    @Autowired
+    private Map<String, HikariDataSource> dataSources;
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> pools() {
+        Map<String, Map<String, Object>> pools = new LinkedHashMap<>();
+        dataSources.forEach((beanName, dataSource) -> {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("max", dataSource.getMaximumPoolSize());
+            stats.put("minIdle", dataSource.getMinimumIdle());
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool != null) { // null until the pool has handed out its first connection
+                stats.put("active", pool.getActiveConnections());
+                stats.put("idle", pool.getIdleConnections());
+                stats.put("waiting", pool.getThreadsAwaitingConnection());
+                stats.put("total", pool.getTotalConnections());
+            }
+            pools.put(dataSource.getPoolName() != null ? dataSource.getPoolName() : beanName, stats);
+        });
+        return pools;
+    }
+}
@@ -0,0 +1,34 @@
+package com.discoverapp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+@Configuration
+public class HttpClientConfig {
+
+    // One pooled java.net.http client shared by the TMDB/Jikan/OpenAI/Gemini clients instead of a
+    // HttpURLConnection-backed RestTemplate each. In virtual-thread mode its internal executor is virtual too.
+    @Bean
+    public RestTemplate restTemplate(Environment environment,
+                                     @Value("${http.client.connect-timeout-ms:5000}") long connectTimeoutMs,
+                                     @Value("${http.client.read-timeout-ms:20000}") long readTimeoutMs) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            builder.executor(new VirtualThreadTaskExecutor("http-client-"));
+        }
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(builder.build());
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        return new RestTemplate(requestFactory);
+    }
+}
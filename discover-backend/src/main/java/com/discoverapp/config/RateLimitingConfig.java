@@ -1,8 +1,51 @@
 package com.discoverapp.config;
 
+import com.discoverapp.security.InMemoryRateLimitStore;
+import com.discoverapp.security.RateLimitStore;
+import lombok.Data;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings for the global API rate limiter (see RateLimitFilter). Authenticated callers are limited per user,
+ * anonymous ones per IP. Each request costs 1 token unless its path matches one of the cost patterns;
+ * the first matching pattern wins, so list the most specific ones first.
+ */
 @Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+@Data
 public class RateLimitingConfig {
-    // TODO: Implement rate limiting with Bucket4j or similar
-} 
\ No newline at end of file
+    private boolean enabled = true;
+    private Limit authenticated = new Limit(300, 60);
+    private Limit anonymous = new Limit(100, 60);
+    // Buckets untouched for this long are full again and can be dropped
+    private long idleEvictionSeconds = 600;
+    // Ant-style path pattern -> tokens per request
+    private Map<String, Integer> costs = new LinkedHashMap<>();
+
+    @Data
+    public static class Limit {
+        private long capacity;
+        private long periodSeconds;
+
+        public Limit() {
+        }
+
+        public Limit(long capacity, long periodSeconds) {
+            this.capacity = capacity;
+            this.periodSeconds = periodSeconds;
+        }
+    }
+
+    // Replace with a shared implementation (e.g. Redis-backed) to enforce limits across nodes
+    @Bean
+    @ConditionalOnMissingBean(RateLimitStore.class)
+    public RateLimitStore rateLimitStore() {
+        return new InMemoryRateLimitStore(idleEvictionSeconds);
+    }
+}
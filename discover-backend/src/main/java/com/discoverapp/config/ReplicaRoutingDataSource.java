@@ -0,0 +1,28 @@
+package com.discoverapp.config;
+
+import com.discoverapp.service.ReplicaLagService;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections for read-only transactions to the replica and everything else to the primary.
+ * Must sit behind a LazyConnectionDataSourceProxy: the transaction's read-only flag is only set after
+ * the transaction manager asks for a connection, so the target has to be chosen at the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaLagService replicaLagService;
+
+    public ReplicaRoutingDataSource(ReplicaLagService replicaLagService) {
+        this.replicaLagService = replicaLagService;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return readOnly && replicaLagService.canReadFromReplica() ? REPLICA : PRIMARY;
+    }
+}
@@ -2,19 +2,26 @@ package com.discoverapp.controller;
 
 import com.discoverapp.dto.AuthRequest;
 import com.discoverapp.dto.AuthResponse;
+import com.discoverapp.dto.RefreshTokenRequest;
 import com.discoverapp.entity.User;
 import com.discoverapp.repository.UserRepository;
 import com.discoverapp.security.CustomUserDetailsService;
 import com.discoverapp.security.JwtUtil;
+import com.discoverapp.service.AuthSessionService;
+import com.discoverapp.service.LoginThrottleService;
+import com.discoverapp.service.PasswordHashService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 //Combines @Controller and @ResponseBody
 //Tells Spring: "This class handles HTTP requests, and all methods return JSON (not views)."
@@ -26,35 +33,65 @@ public class AuthController {
     @Autowired
     private UserRepository userRepository;
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashService passwordHashService;
+    @Autowired
+    private LoginThrottleService loginThrottleService;
     @Autowired
     private JwtUtil jwtUtil;
     @Autowired
     private CustomUserDetailsService userDetailsService;
+    @Autowired
+    private AuthSessionService authSessionService;
 
+    // Hashing runs on the bounded password-hash pool; the request thread is released meanwhile
     @PostMapping("/register")
-    public String register(@RequestBody AuthRequest request) {
+    public CompletableFuture<String> register(@RequestBody AuthRequest request) {
         if (userRepository.findByUsername(request.getUsername()).isPresent()) {
-            return "Username already exists";
+            return CompletableFuture.completedFuture("Username already exists");
         }
-        User user = User.builder()
-                .username(request.getUsername())
-                .email(request.getUsername() + "@mock.com")
-                .password(passwordEncoder.encode(request.getPassword()))
-                .roles(Set.of("ROLE_USER"))
-                .build();
-        userRepository.save(user);
-        return "Registered";
+        return passwordHashService.encode(request.getPassword()).thenApply(hash -> {
+            User user = User.builder()
+                    .username(request.getUsername())
+                    .email(request.getUsername() + "@mock.com")
+                    .password(hash)
+                    .roles(Set.of("ROLE_USER"))
+                    .build();
+            userRepository.save(user);
+            return "Registered";
+        });
     }
 
     @PostMapping("/login")
-    public AuthResponse login(@RequestBody AuthRequest request) {
-        User user = userRepository.findByUsername(request.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            throw new RuntimeException("Invalid credentials");
+    public CompletableFuture<AuthResponse> login(@RequestBody AuthRequest request, HttpServletRequest httpRequest) {
+        String ip = httpRequest.getRemoteAddr();
+        loginThrottleService.checkUsername(ip, request.getUsername());
+        User user = userRepository.findByUsernameOnPrimary(request.getUsername()).orElse(null);
+        if (user == null) {
+            loginThrottleService.recordFailedLogin(ip, request.getUsername());
+            throw new RuntimeException("User not found");
         }
-        String token = jwtUtil.generateToken(user.getUsername(), user.getId());
-        return new AuthResponse(token);
+        return passwordHashService.matches(request.getPassword(), user.getPassword()).thenApply(matches -> {
+            if (!matches) {
+                loginThrottleService.recordFailedLogin(ip, request.getUsername());
+                throw new RuntimeException("Invalid credentials");
+            }
+            return authSessionService.startSession(user);
+        });
+    }
+
+    // Exchanges a refresh token for a new access token and a new refresh token; the old one is spent
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@RequestBody RefreshTokenRequest request) {
+        try {
+            return ResponseEntity.ok(authSessionService.refresh(request.getRefreshToken()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody RefreshTokenRequest request) {
+        authSessionService.logout(request.getRefreshToken());
+        return ResponseEntity.noContent().build();
     }
 } 
\ No newline at end of file
@@ -1,18 +1,20 @@
 package com.discoverapp.controller;
 
 import com.discoverapp.security.JwtUtil;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
 import com.discoverapp.service.ChannelService;
 import org.springframework.beans.factory.annotation.Autowired;
 import com.discoverapp.dto.ChannelDto;
+import com.discoverapp.dto.ChannelPurgeStatusDto;
 import com.discoverapp.dto.CreateChannelRequest;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/channels")
 public class ChannelController {
@@ -25,58 +27,57 @@ public class ChannelController {
     @PostMapping("/create")
     public ResponseEntity<ChannelDto> createChannel(@RequestBody CreateChannelRequest request) {
         String username = jwtUtil.extractUsername();
-        System.out.println("Create channel request - username: " + username + ", request: " + request);
-        
         if (username == null) {
-            System.out.println("Username is null - unauthorized");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
         try {
-        ChannelDto channel = channelService.createChannel(username, request);
-            System.out.println("Channel created successfully: " + channel);
-        return ResponseEntity.ok(channel);
+            ChannelDto channel = channelService.createChannel(username, request);
+            log.debug("Channel {} created by {}", channel.getId(), username);
+            return ResponseEntity.ok(channel);
         } catch (Exception e) {
-            System.out.println("Error creating channel: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to create channel for {}", username, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
     @PostMapping("/delete/{channelId}")
-    public ResponseEntity<Void> deleteChannel(@PathVariable Long channelId) {
+    public ResponseEntity<ChannelPurgeStatusDto> deleteChannel(@PathVariable Long channelId) {
         String username = jwtUtil.extractUsername();
-        System.out.println("Delete channel request - username: " + username + ", channelId: " + channelId);
         if (username == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
         try {
-            channelService.deleteChannel(channelId);
-            return ResponseEntity.noContent().build();
+            ChannelPurgeStatusDto status = channelService.deleteChannel(channelId);
+            return ResponseEntity.accepted().body(status);
         } catch (Exception e) {
-            System.out.println("Error deleting channel: " + e.getMessage());
+            log.warn("Failed to delete channel {}: {}", channelId, e.getMessage());
             throw e;
         }
     }
 
+    @GetMapping("/delete/{channelId}/status")
+    public ResponseEntity<ChannelPurgeStatusDto> deleteChannelStatus(@PathVariable Long channelId) {
+        try {
+            return ResponseEntity.ok(channelService.getDeleteStatus(channelId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
     @PostMapping("/join/{channelId}")
     public ResponseEntity<Void> joinChannel(@PathVariable Long channelId) {
         String username = jwtUtil.extractUsername();
-        System.out.println("Join channel request - username: " + username + ", channelId: " + channelId);
-        System.out.println("Authentication: " + SecurityContextHolder.getContext().getAuthentication());
-
         if (username == null) {
-            System.out.println("Username is null - unauthorized");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
         try {
             channelService.addMemberToChannel(channelId, username);
-            System.out.println("Successfully joined channel " + channelId + " as " + username);
             return ResponseEntity.ok().build();
         } catch (IllegalArgumentException e) {
-            System.out.println("Error joining channel: " + e.getMessage());
+            log.debug("{} could not join channel {}: {}", username, channelId, e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
     }
@@ -96,6 +97,21 @@ public class ChannelController {
         }
     }
 
+    @PostMapping("/{channelId}/read")
+    public ResponseEntity<Void> markRead(@PathVariable Long channelId, @RequestParam(required = false) Long lastReadMessageId) {
+        String username = jwtUtil.extractUsername();
+        if (username == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            channelService.markChannelRead(channelId, username, lastReadMessageId);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
     @GetMapping
     public List<ChannelDto> listChannels() {
         String username = jwtUtil.extractUsername();
@@ -113,7 +129,7 @@ public class ChannelController {
             ChannelDto channel = channelService.getChannel(channelId, username);
             return ResponseEntity.ok(channel);
         } catch (Exception e) {
-            System.out.println(e.getMessage());
+            log.debug("Channel {} not readable by {}: {}", channelId, username, e.getMessage());
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
     }
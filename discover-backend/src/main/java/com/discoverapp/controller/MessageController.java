@@ -33,8 +33,11 @@ public class MessageController {
         return ResponseEntity.ok(message);
     }
 
+    // Keyset pagination: pass the id of the oldest message already shown as beforeId to load older history
     @GetMapping("/channel/{channelId}")
-    public List<MessageDto> listMessages(@PathVariable Long channelId) {
-        return messageService.listMessages(channelId);
+    public List<MessageDto> listMessages(@PathVariable Long channelId,
+                                         @RequestParam(required = false) Long beforeId,
+                                         @RequestParam(defaultValue = "100") int limit) {
+        return messageService.listMessages(channelId, beforeId, Math.max(1, Math.min(limit, 500)));
     }
 } 
\ No newline at end of file
@@ -1,35 +1,58 @@
 package com.discoverapp.controller;
 
-import com.discoverapp.repository.ChannelRepository;
+import com.discoverapp.dto.ChannelPurgeStatusDto;
 import com.discoverapp.repository.MessageRepository;
-import com.discoverapp.repository.ReviewRepository;
+import com.discoverapp.service.ChannelService;
+import com.discoverapp.service.ContentFilterService;
+import com.discoverapp.service.ReplicaLagService;
+import com.discoverapp.service.ReviewService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/moderation")
 public class ModerationController {
     @Autowired
     private MessageRepository messageRepository;
     @Autowired
-    private ChannelRepository channelRepository;
+    private ChannelService channelService;
+    @Autowired
+    private ReviewService reviewService;
     @Autowired
-    private ReviewRepository reviewRepository;
+    private ContentFilterService contentFilterService;
+    @Autowired
+    private ReplicaLagService replicaLagService;
 
     // TODO: Secure these endpoints for admins/moderators only
 
     @DeleteMapping("/message/{id}")
     public void deleteMessage(@PathVariable Long id) {
         messageRepository.deleteById(id);
+        replicaLagService.markWrite();
     }
 
     @DeleteMapping("/channel/{id}")
-    public void deleteChannel(@PathVariable Long id) {
-        channelRepository.deleteById(id);
+    public ResponseEntity<ChannelPurgeStatusDto> deleteChannel(@PathVariable Long id) {
+        return ResponseEntity.accepted().body(channelService.deleteChannel(id));
     }
 
     @DeleteMapping("/review/{id}")
     public void deleteReview(@PathVariable Long id) {
-        reviewRepository.deleteById(id);
+        reviewService.deleteReview(id);
+    }
+
+    @GetMapping("/filter-words")
+    public List<String> getFilterWords() {
+        return contentFilterService.getWords();
+    }
+
+    // Replaces the words managed here (configured and file words always apply); the filter is recompiled in the background
+    @PutMapping("/filter-words")
+    public ResponseEntity<Void> updateFilterWords(@RequestBody List<String> words) {
+        contentFilterService.updateWords(words);
+        return ResponseEntity.accepted().build();
     }
-} 
\ No newline at end of file
+}
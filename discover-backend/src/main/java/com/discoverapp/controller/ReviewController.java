@@ -3,8 +3,10 @@ package com.discoverapp.controller;
 import com.discoverapp.dto.ChannelDto;
 import com.discoverapp.dto.CreateReviewRequest;
 import com.discoverapp.dto.ReviewDto;
+import com.discoverapp.dto.ReviewPageDto;
 import com.discoverapp.security.JwtUtil;
 import com.discoverapp.service.ReviewService;
+import com.discoverapp.types.ReviewSort;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -30,12 +32,42 @@ public class ReviewController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        ReviewDto review = reviewService.addReview(username, request);
-        return ResponseEntity.ok(review);
+        try {
+            ReviewDto review = reviewService.addReview(username, request);
+            return ResponseEntity.ok(review);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
+    /**
+     * @param sort newest (default), highest or helpful
+     * @param cursor nextCursor from the previous page
+     */
     @GetMapping("/movie/{movieId}")
-    public List<ReviewDto> list(@PathVariable Long movieId) {
-        return reviewService.listReviews(movieId);
+    public ResponseEntity<ReviewPageDto> list(@PathVariable Long movieId,
+                                              @RequestParam(required = false) String sort,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(reviewService.listReviews(movieId, ReviewSort.fromString(sort), cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/{reviewId}/helpful")
+    public ResponseEntity<Void> voteHelpful(@PathVariable Long reviewId) {
+        String username = jwtUtil.extractUsername();
+        if (username == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            reviewService.voteHelpful(username, reviewId);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 } 
\ No newline at end of file
@@ -1,14 +1,27 @@
 package com.discoverapp.controller;
 
 import com.discoverapp.dto.AddToWatchListRequest;
+import com.discoverapp.dto.BulkWatchlistRequest;
+import com.discoverapp.dto.BulkWatchlistResult;
 import com.discoverapp.dto.UpdateWatchListItem;
+import com.discoverapp.dto.WatchlistImportResult;
 import com.discoverapp.dto.WatchlistItemDto;
 import com.discoverapp.security.JwtUtil;
 import com.discoverapp.service.WatchlistService;
+import com.discoverapp.service.WatchlistTransferService;
+import com.discoverapp.types.WatchListItemStatus;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -17,6 +30,9 @@ public class WatchlistController {
     @Autowired
     private WatchlistService watchlistService;
 
+    @Autowired
+    private WatchlistTransferService watchlistTransferService;
+
     @Autowired
     private JwtUtil jwtUtil;
 
@@ -40,6 +56,60 @@ public class WatchlistController {
         }
     }
 
+    // Batch add/update/remove in one transaction; safe to retry with the same payload
+    @PostMapping("/bulk")
+    public ResponseEntity<?> bulk(@RequestBody BulkWatchlistRequest request) {
+        String username = jwtUtil.extractUsername();
+        if (username == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body("User not authenticated");
+        }
+
+        try {
+            BulkWatchlistResult result = watchlistService.applyBulk(username, request);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body("Error: " + e.getMessage());
+        }
+    }
+
+    // Streams the request body line by line; send text/csv (with header row) or application/x-ndjson
+    @PostMapping("/import")
+    public ResponseEntity<?> importWatchlist(@RequestParam(defaultValue = "csv") String format, HttpServletRequest request) {
+        String username = jwtUtil.extractUsername();
+        if (username == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body("User not authenticated");
+        }
+
+        try {
+            WatchlistImportResult result = watchlistTransferService.importWatchlist(username, request.getInputStream(), isNdjson(format));
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body("Error: " + e.getMessage());
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Internal server error: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportWatchlist(@RequestParam(defaultValue = "csv") String format) {
+        String username = jwtUtil.extractUsername();
+        if (username == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        boolean ndjson = isNdjson(format);
+        StreamingResponseBody body = output -> watchlistTransferService.exportWatchlist(username, output, ndjson);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"watchlist." + (ndjson ? "ndjson" : "csv") + "\"")
+                .contentType(ndjson ? MediaType.parseMediaType("application/x-ndjson") : MediaType.parseMediaType("text/csv"))
+                .body(body);
+    }
+
     @PostMapping("/update")
     public ResponseEntity<WatchlistItemDto> update(@RequestBody UpdateWatchListItem request) {
         String username = jwtUtil.extractUsername();
@@ -56,8 +126,11 @@ public class WatchlistController {
         watchlistService.removeWatchlistItem(id);
     }
 
+    // Without page/size the whole watchlist is returned; status narrows it to one WatchListItemStatus
     @GetMapping("/user")
-    public ResponseEntity<List<WatchlistItemDto>> getUserWatchlist() {
+    public ResponseEntity<List<WatchlistItemDto>> getUserWatchlist(@RequestParam(required = false) WatchListItemStatus status,
+                                                                   @RequestParam(required = false) Integer page,
+                                                                   @RequestParam(required = false) Integer size) {
         String username = jwtUtil.extractUsername();
         if (username == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -65,7 +138,7 @@ public class WatchlistController {
         }
 
         try {
-            List<WatchlistItemDto> watchlist = watchlistService.getUserWatchlistByUsername(username);
+            List<WatchlistItemDto> watchlist = watchlistService.getUserWatchlistByUsername(username, status, toPageable(page, size));
             return ResponseEntity.ok(watchlist);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -75,7 +148,21 @@ public class WatchlistController {
 
     // Keep the old endpoint for backward compatibility
     @GetMapping("/user/{userId}")
-    public List<WatchlistItemDto> list(@PathVariable Long userId) {
-        return watchlistService.listWatchlistItems(userId);
+    public List<WatchlistItemDto> list(@PathVariable Long userId,
+                                       @RequestParam(required = false) WatchListItemStatus status,
+                                       @RequestParam(required = false) Integer page,
+                                       @RequestParam(required = false) Integer size) {
+        return watchlistService.listWatchlistItems(userId, status, toPageable(page, size));
+    }
+
+    private Pageable toPageable(Integer page, Integer size) {
+        if (page == null && size == null) {
+            return Pageable.unpaged();
+        }
+        return PageRequest.of(page != null ? Math.max(page, 0) : 0, size != null ? Math.max(1, Math.min(size, 500)) : 50);
+    }
+
+    private boolean isNdjson(String format) {
+        return "ndjson".equalsIgnoreCase(format) || "jsonl".equalsIgnoreCase(format);
     }
-} 
\ No newline at end of file
+}
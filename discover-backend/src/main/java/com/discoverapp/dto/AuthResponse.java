@@ -2,9 +2,14 @@ package com.discoverapp.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 @AllArgsConstructor
 public class AuthResponse {
     private String token;
-} 
\ No newline at end of file
+    private String refreshToken;
+    // Access token lifetime in seconds
+    private long expiresIn;
+}
@@ -0,0 +1,11 @@
+package com.discoverapp.dto;
+
+import com.discoverapp.types.WatchlistBulkAction;
+import lombok.Data;
+
+@Data
+public class BulkWatchlistOperation {
+    private WatchlistBulkAction action;
+    private Long movieId;
+    private String status; // required for ADD and UPDATE
+}
@@ -0,0 +1,9 @@
+package com.discoverapp.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class BulkWatchlistRequest {
+    private List<BulkWatchlistOperation> operations;
+}
@@ -0,0 +1,13 @@
+package com.discoverapp.dto;
+
+import lombok.Data;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class BulkWatchlistResult {
+    private int upserted;
+    private int updated;
+    private int removed;
+    private List<Long> unknownContentIds = new ArrayList<>();
+}
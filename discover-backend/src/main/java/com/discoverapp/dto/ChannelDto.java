@@ -8,9 +8,12 @@ public class ChannelDto {
     private Long id;
     private String name;
     private String description;
+    private Integer retentionDays;
     private LocalDateTime createdAt;
     private Long createdById;
     private String createdByUsername;
     private int memberCount;
     private boolean joined; // true if the current user is a member
+    private Long lastReadMessageId;
+    private long unreadCount;
 } 
\ No newline at end of file
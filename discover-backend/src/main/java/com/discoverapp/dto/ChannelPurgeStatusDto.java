@@ -0,0 +1,16 @@
+package com.discoverapp.dto;
+
+import com.discoverapp.types.ChannelPurgeState;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Data
+public class ChannelPurgeStatusDto {
+    private Long channelId;
+    private ChannelPurgeState state;
+    private long totalMessages;
+    private long messagesDeleted;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
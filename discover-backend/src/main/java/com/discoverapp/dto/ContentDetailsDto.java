@@ -24,6 +24,8 @@ public class ContentDetailsDto {
     private List<String> imageUrls;
     private List<String> recommendedContentIds;
     private String trailerId;
+
+    private RatingSummaryDto userRating;
     
     // Enhanced content details
     private List<ContentDto> recommendedContent;
@@ -28,4 +28,6 @@ public class ContentDto {
     private List<String> imageUrls;
     private List<String> recommendedContentIds;
     private String trailerId;
+
+    private RatingSummaryDto userRating;
 } 
\ No newline at end of file
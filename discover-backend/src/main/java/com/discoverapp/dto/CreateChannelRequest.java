@@ -6,4 +6,5 @@ import lombok.Data;
 public class CreateChannelRequest {
     private String name;
     private String description;
+    private Integer retentionDays; // optional, falls back to channel.retention.default-days
 } 
\ No newline at end of file
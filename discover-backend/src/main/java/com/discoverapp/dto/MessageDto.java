@@ -13,4 +13,5 @@ public class MessageDto {
     private Long parentMessageId;
     private LocalDateTime createdAt;
     private boolean moderated;
+    private boolean archived;
 } 
\ No newline at end of file
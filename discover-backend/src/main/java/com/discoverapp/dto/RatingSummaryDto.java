@@ -0,0 +1,18 @@
+package com.discoverapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Aggregate of our own users' reviews, distinct from the upstream "ratings" score
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingSummaryDto {
+    private long reviewCount;
+    private Double averageRating;
+    // histogram.get(i) = number of reviews whose rating rounds to i (0..10)
+    private List<Integer> histogram;
+}
@@ -0,0 +1,8 @@
+package com.discoverapp.dto;
+
+import lombok.Data;
+
+@Data
+public class RefreshTokenRequest {
+    private String refreshToken;
+}
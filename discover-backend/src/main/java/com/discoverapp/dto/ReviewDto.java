@@ -11,4 +11,5 @@ public class ReviewDto {
     private Double rating;
     private String reviewText;
     private LocalDateTime createdAt;
+    private int helpfulCount;
 } 
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.discoverapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewPageDto {
+    private List<ReviewDto> reviews;
+    // Opaque keyset cursor for the next page; null when this is the last page
+    private String nextCursor;
+}
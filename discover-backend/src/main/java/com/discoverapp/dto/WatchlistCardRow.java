@@ -0,0 +1,29 @@
+package com.discoverapp.dto;
+
+import com.discoverapp.types.ContentLabel;
+import com.discoverapp.types.ContentType;
+import com.discoverapp.types.WatchListItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Constructor-expression target for the watchlist read model: only what a content card needs, no LOB columns
+@Data
+@AllArgsConstructor
+public class WatchlistCardRow {
+    private Long id;
+    private WatchListItemStatus status;
+    private LocalDateTime addedAt;
+    private Long contentId;
+    private String title;
+    private String posterUrl;
+    private String backdropPath;
+    private String trailerUrl;
+    private LocalDate releaseDate;
+    private Double ratings;
+    private ContentType type;
+    private ContentLabel label;
+    private String externalId;
+}
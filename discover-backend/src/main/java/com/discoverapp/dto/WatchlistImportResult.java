@@ -0,0 +1,14 @@
+package com.discoverapp.dto;
+
+import lombok.Data;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class WatchlistImportResult {
+    private int processed;
+    private int imported;
+    private int fetchedFromUpstream;
+    private int unresolved;
+    private List<String> errors = new ArrayList<>(); // capped, first problems only
+}
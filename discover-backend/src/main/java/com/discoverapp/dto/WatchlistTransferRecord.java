@@ -0,0 +1,15 @@
+package com.discoverapp.dto;
+
+import com.discoverapp.types.ContentType;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+// One line of a watchlist import/export file (CSV row or NDJSON object)
+@Data
+public class WatchlistTransferRecord {
+    private String externalId;
+    private ContentType type;
+    private String status;
+    private String title;
+    private LocalDateTime addedAt;
+}
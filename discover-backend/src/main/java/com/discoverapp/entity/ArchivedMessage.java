@@ -0,0 +1,36 @@
+package com.discoverapp.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+// Cold tier for channel messages past their retention window. Rows keep their original message id
+// and plain foreign key values (no associations), so archiving never has to load anything and
+// keyset pagination works across both tables.
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "message_archive",
+        indexes = @Index(name = "idx_message_archive_channel_id", columnList = "channel_id, id"))
+public class ArchivedMessage {
+    @Id
+    private Long id;
+
+    @Column(name = "channel_id", nullable = false)
+    private Long channelId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "parent_message_id")
+    private Long parentMessageId;
+
+    private LocalDateTime createdAt;
+
+    private boolean moderated;
+}
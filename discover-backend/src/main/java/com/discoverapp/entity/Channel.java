@@ -2,11 +2,15 @@ package com.discoverapp.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "channel")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,13 +28,20 @@ public class Channel {
     @ManyToOne(fetch = FetchType.LAZY)
     private User createdBy;
 
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     @ManyToMany(mappedBy = "joinedChannels")
     private Set<User> members = new HashSet<>();
 
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     @OneToMany(mappedBy = "channel",
             cascade = CascadeType.ALL,
             orphanRemoval = true)
     private Set<Message> messages = new HashSet<>();
 
     private LocalDateTime createdAt;
+
+    // Messages older than this are moved to the archive; null uses the global default (off unless configured), <= 0 keeps everything hot
+    private Integer retentionDays;
 } 
\ No newline at end of file
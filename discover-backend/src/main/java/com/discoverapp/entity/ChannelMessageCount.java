@@ -0,0 +1,21 @@
+package com.discoverapp.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Total messages ever posted to a channel; maintained by UnreadCounterService via upserts, never by entity saves.
+// Kept out of Channel (and out of the second-level cache) because it changes on every flush.
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "channel_message_count")
+public class ChannelMessageCount {
+    @Id
+    @Column(name = "channel_id")
+    private Long channelId;
+
+    @Column(nullable = false)
+    private long messageCount;
+}
@@ -0,0 +1,34 @@
+package com.discoverapp.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+// Per-(user, channel) read cursor. readMessageCount is the channel's message counter at the time the cursor was moved,
+// so unread = ChannelMessageCount.messageCount - readMessageCount without counting message rows.
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "channel_read_state",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "channel_id"}))
+public class ChannelReadState {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "channel_id", nullable = false)
+    private Channel channel;
+
+    private Long lastReadMessageId;
+
+    private long readMessageCount;
+
+    private LocalDateTime updatedAt;
+}
@@ -4,6 +4,9 @@ import com.discoverapp.types.ContentLabel;
 import com.discoverapp.types.ContentType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
 import java.util.HashSet;
@@ -11,11 +14,18 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
+@NamedEntityGraph(name = Content.WITH_GENRES, attributeNodes = @NamedAttributeNode("genres"))
+@Table(indexes = {
+        @Index(name = "idx_content_external_id_type", columnList = "external_id, type"),
+        @Index(name = "idx_content_type_label", columnList = "type, label")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Content {
+    public static final String WITH_GENRES = "Content.withGenres";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -26,7 +36,9 @@ public class Content {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    // Lazy everywhere; list queries use WITH_GENRES, anything else loads genres for up to 50 contents per select
     @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     @JoinTable(
             name = "content_genre",
             joinColumns = @JoinColumn(name = "content_id"),
@@ -57,14 +69,13 @@ public class Content {
     private String externalId;
 
     // New fields for enhanced content details
-    @ElementCollection
-    @CollectionTable(name = "content_image_urls", joinColumns = @JoinColumn(name = "content_id"))
-    @Column(name = "image_url", columnDefinition = "TEXT")
+    // Stored inline as Postgres arrays so a content row loads in one select
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(columnDefinition = "text[]")
     private List<String> imageUrls;
 
-    @ElementCollection
-    @CollectionTable(name = "content_recommended_ids", joinColumns = @JoinColumn(name = "content_id"))
-    @Column(name = "recommended_id")
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "recommended_ids", columnDefinition = "text[]")
     private List<String> recommendedContentIds;
 
     private String trailerId; // For storing trailer ID from external APIs
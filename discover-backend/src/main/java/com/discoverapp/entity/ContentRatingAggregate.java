@@ -0,0 +1,27 @@
+package com.discoverapp.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Running totals of our own users' reviews per content, maintained incrementally by ReviewService.
+// histogram[i] counts ratings that round to i (0..10).
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "content_rating_aggregate")
+public class ContentRatingAggregate {
+    public static final int BUCKETS = 11;
+
+    @Id
+    @Column(name = "content_id")
+    private Long contentId;
+
+    private long reviewCount;
+
+    private double ratingSum;
+
+    @Column(columnDefinition = "integer[]")
+    private int[] histogram;
+}
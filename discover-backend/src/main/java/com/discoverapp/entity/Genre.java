@@ -3,8 +3,13 @@ package com.discoverapp.entity;
 import com.discoverapp.types.ContentType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "genre")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_genre_external_id_content_type", columnNames = {"external_id", "content_type"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
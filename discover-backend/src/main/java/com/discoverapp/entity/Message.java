@@ -5,6 +5,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_message_channel_created", columnList = "channel_id, created_at"),
+        @Index(name = "idx_message_parent", columnList = "parent_message_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,7 +30,13 @@ public class Message {
     @ManyToOne(fetch = FetchType.LAZY)
     private Message parentMessage;
 
+    // Set instead of parentMessage once the parent has been moved to the archive
+    private Long archivedParentId;
+
     private LocalDateTime createdAt;
 
     private boolean moderated;
+
+    // True until the background classifiers have looked at the message; see MessageModerationService
+    private boolean moderationPending;
 } 
\ No newline at end of file
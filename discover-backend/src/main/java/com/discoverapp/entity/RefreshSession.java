@@ -0,0 +1,38 @@
+package com.discoverapp.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// One row per login. The refresh token itself is never stored, only its SHA-256 digest,
+// which is replaced on every rotation while sessionId stays the same for the life of the login.
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "refresh_session", indexes = {
+        @Index(name = "idx_refresh_session_user", columnList = "user_id"),
+        @Index(name = "idx_refresh_session_expires", columnList = "expires_at")
+})
+public class RefreshSession {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 36)
+    private String sessionId;
+
+    @Column(nullable = false, unique = true, length = 43)
+    private String tokenHash;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime createdAt;
+}
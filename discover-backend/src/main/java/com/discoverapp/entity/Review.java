@@ -9,6 +9,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+// One composite index per feed sort order so every keyset page is a single index range scan
+@Table(indexes = {
+        @Index(name = "idx_review_content_created", columnList = "content_id, created_at, id"),
+        @Index(name = "idx_review_content_rating", columnList = "content_id, rating, id"),
+        @Index(name = "idx_review_content_helpful", columnList = "content_id, helpful_count, id")
+})
 public class Review {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,4 +28,7 @@ public class Review {
     @Column(columnDefinition = "TEXT")
     private String reviewText;
     private LocalDateTime createdAt;
+    // Maintained by ReviewRepository.incrementHelpfulCount, never by entity saves
+    @Column(nullable = false, updatable = false, columnDefinition = "integer default 0")
+    private int helpfulCount;
 } 
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.discoverapp.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// One "helpful" vote per user per review; Review.helpfulCount is the denormalised total
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_review_vote_review_user", columnNames = {"review_id", "user_id"}))
+public class ReviewVote {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Review review;
+    @ManyToOne(fetch = FetchType.LAZY)
+    private User user;
+    private LocalDateTime createdAt;
+}
@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_watchlist_item_user_content", columnNames = {"user_id", "content_id"}))
 public class WatchlistItem {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
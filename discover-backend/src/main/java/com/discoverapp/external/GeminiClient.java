@@ -1,6 +1,7 @@
 package com.discoverapp.external;
 
 import com.discoverapp.types.ContentType;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
@@ -17,7 +18,8 @@ public class GeminiClient {
     @Value("${api.gemini.base-url}")
     private String baseUrl;
     
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Autowired
+    private RestTemplate restTemplate;
 
     /**
      * Calls the Gemini API to get recommendations from a description.
@@ -4,6 +4,9 @@ import com.discoverapp.dto.ContentDto;
 import com.discoverapp.dto.GenreDto;
 import com.discoverapp.types.ContentLabel;
 import com.discoverapp.types.ContentType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import java.util.ArrayList;
@@ -11,26 +14,29 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 public class JikanClient {
     // Jikan API does not require an API key.
-    private final RestTemplate restTemplate = new RestTemplate();
-    private static final String JIKAN_ANIME_URL = "https://api.jikan.moe/v4/anime/%s/full";
-    private static final String JIKAN_TOP_ANIME_URL = "https://api.jikan.moe/v4/top/anime";
-    private static final String JIKAN_TRENDING_ANIME_URL = "https://api.jikan.moe/v4/recommendations/anime";
-    private static final String JIKAN_SEARCH_URL = "https://api.jikan.moe/v4/anime?q=%s";
-    private static final String JIKAN_ANIME_BY_ID = "https://api.jikan.moe/v4/anime/%s";
+    @Autowired
+    private RestTemplate restTemplate;
 
-    private static final String JIKAN_GENRES_URL = "https://api.jikan.moe/v4/genres/anime";
-    
-    // New URLs for enhanced content details
-    private static final String JIKAN_ANIME_PICTURES_URL = "https://api.jikan.moe/v4/anime/%s/pictures";
-    private static final String JIKAN_ANIME_RECOMMENDATIONS_URL = "https://api.jikan.moe/v4/anime/%s/recommendations";
+    @Value("${api.jikan.base-url}")
+    private String baseUrl;
 
+    // URL templates using base URL
+    private String getAnimeUrl() { return baseUrl + "/anime/%s/full"; }
+    private String getTopAnimeUrl() { return baseUrl + "/top/anime"; }
+    private String getTrendingAnimeUrl() { return baseUrl + "/recommendations/anime"; }
+    private String getSearchUrl() { return baseUrl + "/anime?q=%s"; }
+    private String getAnimeByIdUrl() { return baseUrl + "/anime/%s"; }
+    private String getGenresUrl() { return baseUrl + "/genres/anime"; }
+    private String getAnimePicturesUrl() { return baseUrl + "/anime/%s/pictures"; }
+    private String getAnimeRecommendationsUrl() { return baseUrl + "/anime/%s/recommendations"; }
 
     public List<GenreDto> fetchGenres() {
         try {
-            JikanGenresResponse response = restTemplate.getForObject(JIKAN_GENRES_URL, JikanGenresResponse.class);
+            JikanGenresResponse response = restTemplate.getForObject(getGenresUrl(), JikanGenresResponse.class);
 
             if (response != null && response.data != null) {
                 return Arrays.stream(response.data)
@@ -44,7 +50,7 @@ public class JikanClient {
                         .collect(Collectors.toList());
             }
         } catch (Exception e) {
-            System.err.println("Failed to fetch genres: " + e.getMessage());
+            log.warn("Failed to fetch Jikan genres: {}", e.getMessage());
         }
 
         return new ArrayList<>(); // fallback in case of error or null response
@@ -57,7 +63,7 @@ public class JikanClient {
      */
     public ContentDto fetchAnimeDetails(String externalId) {
         try {
-            String url = String.format(JIKAN_ANIME_BY_ID, externalId);
+            String url = String.format(getAnimeByIdUrl(), externalId);
             var response = restTemplate.getForObject(url, JikanAnimeByIDResponse.class);
             if (response == null || response.data == null) return null;
             var data = response.data;
@@ -84,7 +90,7 @@ public class JikanClient {
      */
     public List<ContentDto> fetchAnimeList() {
         try {
-            var response = restTemplate.getForObject(JIKAN_TOP_ANIME_URL, JikanTopAnimeResponse.class);
+            var response = restTemplate.getForObject(getTopAnimeUrl(), JikanTopAnimeResponse.class);
             if (response == null || response.data == null) return new ArrayList<>();
             
             return Arrays.stream(response.data)
@@ -115,7 +121,7 @@ public class JikanClient {
 
     public List<ContentDto> fetchTrendingAnime() {
         try {
-            var response = restTemplate.getForObject(JIKAN_TRENDING_ANIME_URL, JikanTopAnimeResponse.class);
+            var response = restTemplate.getForObject(getTrendingAnimeUrl(), JikanTopAnimeResponse.class);
             if (response == null || response.data == null) return new ArrayList<>();
 
             return java.util.Arrays.stream(response.data)
@@ -147,7 +153,7 @@ public class JikanClient {
      */
     public List<ContentDto> searchAnime(String query) {
         try {
-            String url = String.format(JIKAN_SEARCH_URL, query);
+            String url = String.format(getSearchUrl(), query);
             var response = restTemplate.getForObject(url, JikanSearchResponse.class);
             if (response == null || response.data == null) return new ArrayList<>();
             
@@ -184,7 +190,7 @@ public class JikanClient {
      */
     public List<String> fetchImages(String externalId) {
         try {
-            String url = String.format(JIKAN_ANIME_PICTURES_URL, externalId);
+            String url = String.format(getAnimePicturesUrl(), externalId);
             var response = restTemplate.getForObject(url, JikanPicturesResponse.class);
             if (response == null || response.data == null) return new ArrayList<>();
             
@@ -204,12 +210,11 @@ public class JikanClient {
      */
     public List<ContentDto> fetchRecommendations(String externalId) {
         try {
-            System.out.println("In 1");
-            String url = String.format(JIKAN_ANIME_RECOMMENDATIONS_URL, externalId);
+            String url = String.format(getAnimeRecommendationsUrl(), externalId);
             var response = restTemplate.getForObject(url, JikanRecommendationsResponse.class);
             if (response == null || response.data == null) return new ArrayList<>();
 
-            System.out.println("Count: " +Arrays.stream(response.data).count());
+            log.debug("Jikan returned {} recommendations for {}", response.data.length, externalId);
             return Arrays.stream(response.data)
                 .limit(4)
                 .map(item -> {
@@ -218,10 +223,10 @@ public class JikanClient {
                     } catch (InterruptedException e) {
                         throw new RuntimeException(e);
                     }
-                    String contentUrl = String.format(JIKAN_ANIME_BY_ID, item.entry.mal_id);
+                    String contentUrl = String.format(getAnimeByIdUrl(), item.entry.mal_id);
                     var contentResponse = restTemplate.getForObject(contentUrl, JikanAnimeByIDResponse.class);
                     if (contentResponse == null || contentResponse.data == null) {
-                        System.out.println("Response is null or empty");
+                        log.debug("Jikan returned no details for anime {}", item.entry.mal_id);
                         return null;
                     }
 
@@ -238,6 +243,7 @@ public class JikanClient {
                 })
                 .collect(java.util.stream.Collectors.toList());
         } catch (Exception e) {
+            log.warn("Failed to fetch Jikan recommendations for {}: {}", externalId, e.getMessage());
             return new ArrayList<>();
         }
     }
@@ -254,8 +260,6 @@ public class JikanClient {
         dto.setType(ContentType.ANIME);
         dto.setLabel(ContentLabel.CONTENT);
         dto.setExternalId(String.valueOf(contentResponse.data.mal_id));
-        System.out.println("In 2");
-        System.out.println("DTO: " + dto);
         return dto;
     }
 
@@ -1,13 +1,17 @@
 package com.discoverapp.external;
 
 import com.discoverapp.types.ContentType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+@Slf4j
 @Service
 public class OpenAiClient {
     @Value("${api.openai.key}")
@@ -16,7 +20,8 @@ public class OpenAiClient {
     @Value("${api.openai.base-url}")
     private String baseUrl;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Autowired
+    private RestTemplate restTemplate;
 
     /**
      * Calls the OpenAI API to get recommendations from a description.
@@ -47,10 +52,41 @@ public class OpenAiClient {
         }
     }
 
+    /**
+     * Runs a batch of texts through the OpenAI moderation endpoint.
+     * @param texts The texts to classify
+     * @return One flag per input text, in order, or an empty list if the call failed
+     */
+    public List<Boolean> moderate(List<String> texts) {
+        try {
+            String moderationUrl = baseUrl + "/moderations";
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setBearerAuth(apiKey);
+            Map<String, Object> body = Map.of("input", texts);
+            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
+            ResponseEntity<ModerationResponse> response = restTemplate.postForEntity(moderationUrl, entity, ModerationResponse.class);
+            if (response.getBody() == null || response.getBody().results == null
+                    || response.getBody().results.length != texts.size()) {
+                log.warn("OpenAI moderation returned no usable results for {} texts", texts.size());
+                return List.of();
+            }
+            return Arrays.stream(response.getBody().results).map(r -> r.flagged).toList();
+        } catch (Exception e) {
+            log.warn("OpenAI moderation failed for {} texts: {}", texts.size(), e.getMessage());
+            return List.of();
+        }
+    }
+
     // --- DTOs for OpenAI response mapping ---
     private static class OpenAiResponse {
         public Choice[] choices;
         static class Choice { public Message message; }
         static class Message { public String content; }
     }
+
+    private static class ModerationResponse {
+        public Result[] results;
+        static class Result { public boolean flagged; }
+    }
 } 
\ No newline at end of file
@@ -4,6 +4,8 @@ import com.discoverapp.dto.ContentDto;
 import com.discoverapp.dto.GenreDto;
 import com.discoverapp.types.ContentLabel;
 import com.discoverapp.types.ContentType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -14,6 +16,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 public class TmdbClient {
     @Value("${api.tmdb.key}")
@@ -22,10 +25,12 @@ public class TmdbClient {
     @Value("${api.tmdb.base-url}")
     private String baseUrl;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Autowired
+    private RestTemplate restTemplate;
     
     // URL templates using base URL
     private String getMovieUrl() { return baseUrl + "/movie/%s?api_key=%s&append_to_response=videos,credits"; }
+    private String getSeriesUrl() { return baseUrl + "/tv/%s?api_key=%s&append_to_response=videos,credits"; }
     private String getDiscoverUrl() { return baseUrl + "/discover/%s?api_key=%s&sort_by=popularity.desc"; }
     private String getTrendingUrl() { return baseUrl + "/trending/%s/week?api_key=%s&sort_by=popularity.desc"; }
     private String getSearchUrl() { return baseUrl + "/search/multi?api_key=%s&query=%s"; }
@@ -64,6 +69,37 @@ public class TmdbClient {
         }
     }
 
+    /**
+     * Fetches series details from TMDB by externalId.
+     * @param externalId The TMDB series ID
+     * @return ContentDto or null if not found
+     */
+    public ContentDto fetchSeriesDetails(String externalId) {
+        try {
+            String url = String.format(getSeriesUrl(), externalId, apiKey);
+            var response = restTemplate.getForObject(url, TmdbSeriesResponse.class);
+            if (response == null) return null;
+            ContentDto dto = new ContentDto();
+            dto.setTitle(response.name);
+            dto.setDescription(response.overview);
+            dto.setGenreIds(response.genres != null
+                    ? response.genres.stream().map(g -> g.id).collect(Collectors.toList())
+                    : new ArrayList<>());
+            dto.setPosterUrl("https://image.tmdb.org/t/p/w500" + response.poster_path);
+            dto.setBackdropPath("https://image.tmdb.org/t/p/original" + response.backdrop_path);
+            dto.setTrailerUrl(response.getTrailerUrl());
+            dto.setCastList(response.getCastString());
+            dto.setRatings(response.vote_average);
+            dto.setRelease_date(response.first_air_date);
+            dto.setType(ContentType.SERIES);
+            dto.setExternalId(externalId);
+            return dto;
+        } catch (Exception e) {
+            log.warn("TMDB series details failed for {}: {}", externalId, e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Fetches a list of content from TMDB based on the content type.
      * @param type The type of content to fetch (MOVIE or SERIES)
@@ -235,7 +271,7 @@ public class TmdbClient {
                         .collect(Collectors.toList());
             }
         } catch (Exception e) {
-            System.err.println("Failed to fetch genres: " + e.getMessage());
+            log.warn("Failed to fetch TMDB genres: {}", e.getMessage());
         }
 
         return new ArrayList<>(); // fallback in case of error or null response
@@ -394,6 +430,32 @@ public class TmdbClient {
         static class Credits { public Cast[] cast; static class Cast { public String name; } }
     }
 
+    private static class TmdbSeriesResponse {
+        public String name;
+        public String overview;
+        public String poster_path;
+        public String backdrop_path;
+        public double vote_average;
+        public LocalDate first_air_date;
+        public List<Genre> genres;
+        public TmdbMovieResponse.Videos videos;
+        public TmdbMovieResponse.Credits credits;
+
+        public String getTrailerUrl() {
+            if (videos == null || videos.results == null) return null;
+            return java.util.Arrays.stream(videos.results)
+                .filter(v -> "Trailer".equals(v.type) && "YouTube".equals(v.site))
+                .findFirst()
+                .map(v -> "https://www.youtube.com/watch?v=" + v.key)
+                .orElse(null);
+        }
+        public String getCastString() {
+            if (credits == null || credits.cast == null) return "";
+            return String.join(", ", java.util.Arrays.stream(credits.cast).limit(5).map(c -> c.name).toList());
+        }
+        static class Genre { public Long id; }
+    }
+
     // --- New DTOs for discover and search responses ---
     private static class DiscoverMoviesResponse {
         public Result[] results;
@@ -5,15 +5,20 @@ import com.discoverapp.entity.User;
 import com.discoverapp.repository.ContentRepository;
 import com.discoverapp.repository.UserRepository;
 import com.discoverapp.types.ContentType;
+import lombok.extern.slf4j.Slf4j;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.Set;
 
+// Seeds a known test account, so never in prod
+@Slf4j
 @Component
+@Profile("!prod")
 public class DataInitializer {
 
     @Autowired
@@ -36,7 +41,7 @@ public class DataInitializer {
                     .roles(Set.of("ROLE_USER"))
                     .build();
             userRepository.save(testUser);
-            System.out.println("Created test user: testuser/password");
+            log.info("Created test user: testuser/password");
         }
 
     }
@@ -2,23 +2,41 @@ package com.discoverapp.initializer;
 
 import com.discoverapp.service.GenreService;
 import com.discoverapp.types.ContentType;
-import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Refreshes the genre tables once the application is ready to serve traffic, one upstream call per
+ * content type in parallel. Startup no longer waits on TMDB/Jikan; until the refresh finishes (or if
+ * it fails) whatever genres are already in the database are used.
+ */
+@Slf4j
 @Component
 public class GenreInitializer {
 
     private final GenreService genreService;
+    private final Executor genreBootstrapExecutor;
 
-    public GenreInitializer(GenreService genreService) {
+    public GenreInitializer(GenreService genreService,
+                            @Qualifier("genreBootstrapExecutor") Executor genreBootstrapExecutor) {
         this.genreService = genreService;
+        this.genreBootstrapExecutor = genreBootstrapExecutor;
     }
 
-    @PostConstruct
+    @EventListener(ApplicationReadyEvent.class)
     public void init() {
-        genreService.fetchAndCacheGenres(ContentType.MOVIE);
-        genreService.fetchAndCacheGenres(ContentType.SERIES);
-        genreService.fetchAndCacheGenres(ContentType.ANIME);
+        long start = System.currentTimeMillis();
+        CompletableFuture<?>[] refreshes = Arrays.stream(ContentType.values())
+                .map(type -> CompletableFuture.runAsync(() -> genreService.fetchAndCacheGenres(type), genreBootstrapExecutor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(refreshes).whenComplete((ignored, error) ->
+                log.info("Genre bootstrap finished in {} ms", System.currentTimeMillis() - start));
     }
 }
-
@@ -0,0 +1,45 @@
+package com.discoverapp.repository;
+
+import com.discoverapp.entity.ArchivedMessage;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ArchivedMessageRepository extends JpaRepository<ArchivedMessage, Long> {
+
+    // Returns [ArchivedMessage, username] newest first, for ids strictly below the cursor
+    @Query("SELECT a, u.username FROM ArchivedMessage a " +
+           "LEFT JOIN User u ON u.id = a.userId " +
+           "WHERE a.channelId = :channelId AND a.id < :beforeId " +
+           "ORDER BY a.id DESC")
+    List<Object[]> findPageBefore(@Param("channelId") Long channelId,
+                                  @Param("beforeId") Long beforeId,
+                                  Pageable pageable);
+
+    // Copies hot rows into the archive; must run in the same transaction as the matching delete
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "message_archive"))
+    @Query(value = "INSERT INTO message_archive (id, channel_id, user_id, content, parent_message_id, created_at, moderated) " +
+                   "SELECT id, channel_id, user_id, content, COALESCE(parent_message_id, archived_parent_id), created_at, moderated " +
+                   "FROM message WHERE id IN (:ids) " +
+                   "ON CONFLICT (id) DO NOTHING",
+           nativeQuery = true)
+    int copyFromMessages(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "message_archive"))
+    @Query(value = "DELETE FROM message_archive WHERE id IN " +
+                   "(SELECT id FROM message_archive WHERE channel_id = :channelId LIMIT :limit)",
+           nativeQuery = true)
+    int deleteByChannelIdChunk(@Param("channelId") Long channelId, @Param("limit") int limit);
+}
@@ -0,0 +1,29 @@
+package com.discoverapp.repository;
+
+import com.discoverapp.entity.ChannelMessageCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface ChannelMessageCountRepository extends JpaRepository<ChannelMessageCount, Long> {
+
+    @Query("SELECT m.messageCount FROM ChannelMessageCount m WHERE m.channelId = :channelId")
+    Optional<Long> findMessageCount(@Param("channelId") Long channelId);
+
+    // Names only its own table, so flushing counters leaves the channel cache region alone
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "channel_message_count"))
+    @Query(value = "INSERT INTO channel_message_count (channel_id, message_count) VALUES (:channelId, :delta) " +
+                   "ON CONFLICT (channel_id) DO UPDATE SET " +
+                   "message_count = channel_message_count.message_count + EXCLUDED.message_count",
+           nativeQuery = true)
+    int incrementMessageCount(@Param("channelId") Long channelId, @Param("delta") long delta);
+}
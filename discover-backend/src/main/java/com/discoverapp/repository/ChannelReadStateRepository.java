@@ -0,0 +1,51 @@
+package com.discoverapp.repository;
+
+import com.discoverapp.entity.ChannelReadState;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface ChannelReadStateRepository extends JpaRepository<ChannelReadState, Long> {
+
+    // Returns [Channel, ChannelReadState or null, member count, 1 if the user is a member else 0, persisted message
+    // count] for every channel in one round trip; both member counts are index lookups on channel_members
+    @Query("SELECT c, r, SIZE(c.members), " +
+           "(SELECT COUNT(u) FROM User u JOIN u.joinedChannels j WHERE j = c AND u.id = :userId), " +
+           "COALESCE(m.messageCount, 0) " +
+           "FROM Channel c " +
+           "LEFT JOIN FETCH c.createdBy " +
+           "LEFT JOIN ChannelReadState r ON r.channel = c AND r.user.id = :userId " +
+           "LEFT JOIN ChannelMessageCount m ON m.channelId = c.id")
+    List<Object[]> findAllChannelsWithReadState(@Param("userId") Long userId);
+
+    // The cursor only ever moves forward, so a stale client can't mark older messages unread again
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "channel_read_state"))
+    @Query(value = "INSERT INTO channel_read_state (user_id, channel_id, last_read_message_id, read_message_count, updated_at) " +
+                   "VALUES (:userId, :channelId, :lastReadMessageId, :readMessageCount, now()) " +
+                   "ON CONFLICT (user_id, channel_id) DO UPDATE SET " +
+                   "last_read_message_id = EXCLUDED.last_read_message_id, " +
+                   "read_message_count = EXCLUDED.read_message_count, " +
+                   "updated_at = EXCLUDED.updated_at " +
+                   "WHERE channel_read_state.last_read_message_id IS NULL " +
+                   "OR channel_read_state.last_read_message_id <= EXCLUDED.last_read_message_id",
+           nativeQuery = true)
+    int upsertCursor(@Param("userId") Long userId,
+                     @Param("channelId") Long channelId,
+                     @Param("lastReadMessageId") Long lastReadMessageId,
+                     @Param("readMessageCount") long readMessageCount);
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "channel_read_state"))
+    @Query(value = "DELETE FROM channel_read_state WHERE channel_id = :channelId", nativeQuery = true)
+    int deleteByChannelId(@Param("channelId") Long channelId);
+}
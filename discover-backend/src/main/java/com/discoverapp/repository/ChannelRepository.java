@@ -1,22 +1,37 @@
 package com.discoverapp.repository;
 
 import com.discoverapp.entity.Channel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ChannelRepository extends JpaRepository<Channel, Long> {
 
+    // Native DML names the tables it touches; otherwise Hibernate drops every second-level cache region
     @Modifying
     @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "channel_members"))
     @Query(value = "DELETE FROM channel_members WHERE channel_id = :channelId", nativeQuery = true)
     void clearChannelMembers(@Param("channelId") Long channelId);
 
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "channel"))
+    @Query(value = "DELETE FROM channel WHERE id = :channelId", nativeQuery = true)
+    int deleteChannelRow(@Param("channelId") Long channelId);
+
+    @Query("SELECT c.id, c.retentionDays FROM Channel c")
+    List<Object[]> findAllRetentionPolicies();
+
     @EntityGraph(attributePaths = {"members"})
     @Query("SELECT c FROM Channel c WHERE c.id = :channelId")
     Optional<Channel> findByIdWithMembers(@Param("channelId") Long channelId);
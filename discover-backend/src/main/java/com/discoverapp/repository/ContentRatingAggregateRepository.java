@@ -0,0 +1,30 @@
+package com.discoverapp.repository;
+
+import com.discoverapp.entity.ContentRatingAggregate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface ContentRatingAggregateRepository extends JpaRepository<ContentRatingAggregate, Long> {
+
+    // Single-statement incremental update; bucket is 1-based (Postgres array index).
+    // A negative delta undoes a review (moderation delete).
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "content_rating_aggregate"))
+    @Query(value = "INSERT INTO content_rating_aggregate (content_id, review_count, rating_sum, histogram) " +
+                   "VALUES (:contentId, :delta, :ratingDelta, " +
+                   "(SELECT array_agg(CASE WHEN i = :bucket THEN :delta ELSE 0 END ORDER BY i) FROM generate_series(1, 11) i)) " +
+                   "ON CONFLICT (content_id) DO UPDATE SET " +
+                   "review_count = content_rating_aggregate.review_count + EXCLUDED.review_count, " +
+                   "rating_sum = content_rating_aggregate.rating_sum + EXCLUDED.rating_sum, " +
+                   "histogram[:bucket] = content_rating_aggregate.histogram[:bucket] + :delta",
+           nativeQuery = true)
+    int applyDelta(@Param("contentId") Long contentId,
+                   @Param("delta") int delta,
+                   @Param("ratingDelta") double ratingDelta,
+                   @Param("bucket") int bucket);
+}
@@ -1,7 +1,50 @@
 package com.discoverapp.repository;
 
 import com.discoverapp.entity.Content;
+import com.discoverapp.types.ContentLabel;
+import com.discoverapp.types.ContentType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 public interface ContentRepository extends JpaRepository<Content, Long> {
-}
\ No newline at end of file
+
+    // List views render genre names, so they load genres in the same select
+    @EntityGraph(Content.WITH_GENRES)
+    List<Content> findByType(ContentType type);
+
+    @EntityGraph(Content.WITH_GENRES)
+    List<Content> findByTypeAndLabel(ContentType type, ContentLabel label);
+
+    @EntityGraph(Content.WITH_GENRES)
+    List<Content> findByTypeAndExternalIdIn(ContentType type, Collection<String> externalIds);
+
+    @EntityGraph(Content.WITH_GENRES)
+    List<Content> findByExternalIdIn(Collection<String> externalIds);
+
+    // Single-row detail lookup; genres come from the batch fetch on first access
+    Optional<Content> findFirstByExternalIdAndType(String externalId, ContentType type);
+
+    boolean existsByExternalIdAndType(String externalId, ContentType type);
+
+    @Query("SELECT c.externalId FROM Content c WHERE c.externalId IN :externalIds")
+    Set<String> findExistingExternalIds(@Param("externalIds") Collection<String> externalIds);
+
+    // Returns [externalId, id] pairs for the given type, used to resolve imported external ids in batches
+    @Query("SELECT c.externalId, c.id FROM Content c WHERE c.type = :type AND c.externalId IN :externalIds")
+    List<Object[]> findIdsByTypeAndExternalIds(@Param("type") ContentType type,
+                                               @Param("externalIds") Collection<String> externalIds);
+
+    @Query("SELECT c.id FROM Content c WHERE c.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Returns [contentId, genreId, genreName] for all given content in one round trip
+    @Query("SELECT c.id, g.id, g.name FROM Content c JOIN c.genres g WHERE c.id IN :contentIds")
+    List<Object[]> findGenresByContentIds(@Param("contentIds") Collection<Long> contentIds);
+}
@@ -2,15 +2,27 @@ package com.discoverapp.repository;
 
 import com.discoverapp.entity.Genre;
 import com.discoverapp.types.ContentType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface GenreRepository extends JpaRepository<Genre, Long> {
 
+    // Genre lookups run for every content mapping; results are served from the query cache until the genre table changes
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.genre")
+    })
     Optional<Genre> findByExternalIdAndContentType(Long externalId, ContentType contentType);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.genre")
+    })
     List<Genre> findAllByExternalIdInAndContentType(List<Long> externalIds, ContentType contentType);
 
 } 
\ No newline at end of file
@@ -1,12 +1,20 @@
 package com.discoverapp.repository;
 
 import com.discoverapp.entity.Message;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 public interface MessageRepository extends JpaRepository<Message, Long> {
 
     @Modifying
@@ -18,4 +26,71 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     @Transactional
     @Query("DELETE FROM Message m WHERE m.channel.id = :channelId")
     void deleteByChannelId(@Param("channelId") Long channelId);
-} 
\ No newline at end of file
+
+    long countByChannelId(Long channelId);
+
+    long countByChannelIdAndIdGreaterThan(Long channelId, Long id);
+
+    // Only id and text, so the moderation worker never loads the user/channel associations
+    @Query("SELECT m.id, m.content FROM Message m WHERE m.id IN :ids")
+    List<Object[]> findContentByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Message m SET m.moderated = true WHERE m.id IN :ids")
+    int markModerated(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Message m SET m.moderationPending = false WHERE m.id IN :ids")
+    int clearModerationPending(@Param("ids") Collection<Long> ids);
+
+    // Literal true so the planner can use the partial index idx_message_moderation_pending
+    @Query("SELECT m.id FROM Message m WHERE m.moderationPending = true AND m.createdAt < :cutoff ORDER BY m.id")
+    List<Long> findPendingModerationIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Query("SELECT m FROM Message m LEFT JOIN FETCH m.user " +
+           "WHERE m.channel.id = :channelId AND m.id < :beforeId " +
+           "ORDER BY m.id DESC")
+    List<Message> findPageBefore(@Param("channelId") Long channelId,
+                                 @Param("beforeId") Long beforeId,
+                                 Pageable pageable);
+
+    @Query("SELECT m.id FROM Message m WHERE m.channel.id = :channelId AND m.createdAt < :cutoff ORDER BY m.id")
+    List<Long> findIdsOlderThan(@Param("channelId") Long channelId,
+                                @Param("cutoff") LocalDateTime cutoff,
+                                Pageable pageable);
+
+    // Replies to messages that are about to be archived keep the link through archived_parent_id
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "message"))
+    @Query(value = "UPDATE message SET archived_parent_id = parent_message_id, parent_message_id = NULL " +
+                   "WHERE parent_message_id IN (:ids)",
+           nativeQuery = true)
+    int detachFromParents(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "message"))
+    @Query(value = "DELETE FROM message WHERE id IN (:ids)", nativeQuery = true)
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT MAX(m.id) FROM Message m WHERE m.channel.id = :channelId")
+    Long findLatestMessageId(@Param("channelId") Long channelId);
+
+    // Chunked variants used by ChannelPurgeService so a single statement never touches more than `limit` rows
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "message"))
+    @Query(value = "UPDATE message SET parent_message_id = NULL WHERE id IN " +
+            "(SELECT id FROM message WHERE channel_id = :channelId AND parent_message_id IS NOT NULL LIMIT :limit)",
+            nativeQuery = true)
+    int clearParentMessagesByChannelIdChunk(@Param("channelId") Long channelId, @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "message"))
+    @Query(value = "DELETE FROM message WHERE id IN " +
+            "(SELECT id FROM message WHERE channel_id = :channelId LIMIT :limit)",
+            nativeQuery = true)
+    int deleteByChannelIdChunk(@Param("channelId") Long channelId, @Param("limit") int limit);
+}
@@ -0,0 +1,41 @@
+package com.discoverapp.repository;
+
+import com.discoverapp.entity.RefreshSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshSessionRepository extends JpaRepository<RefreshSession, Long> {
+
+    @Query("SELECT s FROM RefreshSession s JOIN FETCH s.user WHERE s.tokenHash = :tokenHash")
+    Optional<RefreshSession> findByTokenHashWithUser(@Param("tokenHash") String tokenHash);
+
+    // Read-write so it stays on the primary: on a lagging replica a fresh login would look revoked
+    @Transactional
+    boolean existsBySessionId(String sessionId);
+
+    // Compare-and-swap: only the holder of the current token can rotate it, so a replayed token loses the race
+    @Modifying
+    @Query("UPDATE RefreshSession s SET s.tokenHash = :newHash, s.expiresAt = :expiresAt " +
+           "WHERE s.id = :id AND s.tokenHash = :oldHash AND s.expiresAt > :now")
+    int rotate(@Param("id") Long id,
+               @Param("oldHash") String oldHash,
+               @Param("newHash") String newHash,
+               @Param("expiresAt") LocalDateTime expiresAt,
+               @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshSession s WHERE s.sessionId = :sessionId")
+    int deleteBySessionId(@Param("sessionId") String sessionId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshSession s WHERE s.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
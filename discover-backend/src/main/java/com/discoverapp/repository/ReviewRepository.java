@@ -1,7 +1,59 @@
 package com.discoverapp.repository;
 
 import com.discoverapp.entity.Review;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
-} 
\ No newline at end of file
+
+    // Keyset pages, one pair per ReviewSort. Each is served by the matching (content_id, <key>, id) index.
+
+    @Query("SELECT r FROM Review r WHERE r.content.id = :contentId ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findNewest(@Param("contentId") Long contentId, Pageable pageable);
+
+    @Query("SELECT r FROM Review r WHERE r.content.id = :contentId " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findNewestAfter(@Param("contentId") Long contentId,
+                                 @Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") Long id,
+                                 Pageable pageable);
+
+    // Unrated reviews have no place in a by-rating ordering and are left out
+    @Query("SELECT r FROM Review r WHERE r.content.id = :contentId AND r.rating IS NOT NULL " +
+           "ORDER BY r.rating DESC, r.id DESC")
+    List<Review> findHighest(@Param("contentId") Long contentId, Pageable pageable);
+
+    @Query("SELECT r FROM Review r WHERE r.content.id = :contentId AND r.rating IS NOT NULL " +
+           "AND (r.rating < :rating OR (r.rating = :rating AND r.id < :id)) " +
+           "ORDER BY r.rating DESC, r.id DESC")
+    List<Review> findHighestAfter(@Param("contentId") Long contentId,
+                                  @Param("rating") Double rating,
+                                  @Param("id") Long id,
+                                  Pageable pageable);
+
+    @Query("SELECT r FROM Review r WHERE r.content.id = :contentId ORDER BY r.helpfulCount DESC, r.id DESC")
+    List<Review> findMostHelpful(@Param("contentId") Long contentId, Pageable pageable);
+
+    @Query("SELECT r FROM Review r WHERE r.content.id = :contentId " +
+           "AND (r.helpfulCount < :helpfulCount OR (r.helpfulCount = :helpfulCount AND r.id < :id)) " +
+           "ORDER BY r.helpfulCount DESC, r.id DESC")
+    List<Review> findMostHelpfulAfter(@Param("contentId") Long contentId,
+                                      @Param("helpfulCount") int helpfulCount,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "review"))
+    @Query(value = "UPDATE review SET helpful_count = helpful_count + 1 WHERE id = :id", nativeQuery = true)
+    int incrementHelpfulCount(@Param("id") Long id);
+}
@@ -0,0 +1,25 @@
+package com.discoverapp.repository;
+
+import com.discoverapp.entity.ReviewVote;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface ReviewVoteRepository extends JpaRepository<ReviewVote, Long> {
+
+    // Returns 0 if the user already voted for this review
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "review_vote"))
+    @Query(value = "INSERT INTO review_vote (review_id, user_id, created_at) VALUES (:reviewId, :userId, now()) " +
+                   "ON CONFLICT (review_id, user_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("reviewId") Long reviewId, @Param("userId") Long userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "review_vote"))
+    @Query(value = "DELETE FROM review_vote WHERE review_id = :reviewId", nativeQuery = true)
+    int deleteByReviewId(@Param("reviewId") Long reviewId);
+}
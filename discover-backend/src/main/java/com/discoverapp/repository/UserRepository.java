@@ -1,9 +1,12 @@
 package com.discoverapp.repository;
 
 import com.discoverapp.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,9 +19,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // Spring automatically generates the query: “SELECT u FROM User u WHERE u.username = :username”
     // Returns an Optional<User> — meaning: If a user is found, return it. If not, return Optional.empty() so you avoid null
+    // Cached (id only) so the user itself comes from the second-level cache; invalidated whenever the users table changes
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.users")
+    })
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
 
+    // Read-write so login reads the primary: an account registered moments ago may not be on the replica yet
+    @Transactional
+    @Query("SELECT u FROM User u WHERE u.username = :username")
+    Optional<User> findByUsernameOnPrimary(@Param("username") String username);
+
     @Query("SELECT COUNT (u) FROM User u JOIN u.joinedChannels c WHERE c.id = :channelId")
     int countUsersByChannelId(@Param("channelId") Long channelId);
 
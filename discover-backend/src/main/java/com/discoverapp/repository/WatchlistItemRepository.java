@@ -1,26 +1,94 @@
 package com.discoverapp.repository;
 
+import com.discoverapp.dto.WatchlistCardRow;
 import com.discoverapp.entity.WatchlistItem;
+import com.discoverapp.types.WatchListItemStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface WatchlistItemRepository extends JpaRepository<WatchlistItem, Long> {
-    
-    @Query("SELECT w FROM WatchlistItem w " +
-           "JOIN FETCH w.content c " +
-           "JOIN FETCH w.user u " +
-           "WHERE u.id = :userId")
-    List<WatchlistItem> findByUserIdWithContent(@Param("userId") Long userId);
-    
-    // Alternative query that avoids LOB fields
-    @Query("SELECT w.id, w.status, w.addedAt, " +
-           "c.id, c.title, c.posterUrl, c.trailerUrl, c.releaseDate, c.ratings, c.type, c.externalId " +
+
+    // Card fields only: never selects the description/castList LOBs and never initialises Content entities
+    @Query("SELECT new com.discoverapp.dto.WatchlistCardRow(" +
+           "w.id, w.status, w.addedAt, " +
+           "c.id, c.title, c.posterUrl, c.backdropPath, c.trailerUrl, c.releaseDate, c.ratings, c.type, c.label, c.externalId) " +
+           "FROM WatchlistItem w " +
+           "JOIN w.content c " +
+           "WHERE w.user.id = :userId " +
+           "ORDER BY w.addedAt DESC, w.id DESC")
+    List<WatchlistCardRow> findCardsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT new com.discoverapp.dto.WatchlistCardRow(" +
+           "w.id, w.status, w.addedAt, " +
+           "c.id, c.title, c.posterUrl, c.backdropPath, c.trailerUrl, c.releaseDate, c.ratings, c.type, c.label, c.externalId) " +
+           "FROM WatchlistItem w " +
+           "JOIN w.content c " +
+           "WHERE w.user.id = :userId AND w.status = :status " +
+           "ORDER BY w.addedAt DESC, w.id DESC")
+    List<WatchlistCardRow> findCardsByUserIdAndStatus(@Param("userId") Long userId,
+                                                     @Param("status") WatchListItemStatus status,
+                                                     Pageable pageable);
+
+    // Export rows [itemId, externalId, type, status, title, addedAt], keyset-paged by item id
+    @Query("SELECT w.id, c.externalId, c.type, w.status, c.title, w.addedAt " +
            "FROM WatchlistItem w " +
            "JOIN w.content c " +
-           "JOIN w.user u " +
-           "WHERE u.id = :userId")
-    List<Object[]> findByUserIdWithoutLob(@Param("userId") Long userId);
-} 
\ No newline at end of file
+           "WHERE w.user.id = :userId AND w.id > :afterId " +
+           "ORDER BY w.id")
+    List<Object[]> findExportRowsAfter(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    Optional<WatchlistItem> findByUserIdAndContentId(Long userId, Long contentId);
+
+    // Set-based upsert relying on uk_watchlist_item_user_content; unknown content ids are simply skipped by the join
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "watchlist_item"))
+    @Query(value = "INSERT INTO watchlist_item (user_id, content_id, status, added_at) " +
+                   "SELECT :userId, c.id, :status, now() FROM content c WHERE c.id IN (:contentIds) " +
+                   "ON CONFLICT (user_id, content_id) DO UPDATE SET status = EXCLUDED.status, added_at = EXCLUDED.added_at",
+           nativeQuery = true)
+    int upsertAll(@Param("userId") Long userId,
+                  @Param("contentIds") Collection<Long> contentIds,
+                  @Param("status") String status);
+
+    // Import upsert: row i is (contentIds[i], statuses[i], addedAts[i]), a null addedAt means now. Content ids
+    // must be distinct, ON CONFLICT cannot touch the same row twice in one statement.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "watchlist_item"))
+    @Query(value = "INSERT INTO watchlist_item (user_id, content_id, status, added_at) " +
+                   "SELECT :userId, c.id, v.status, coalesce(v.added_at, now()) " +
+                   "FROM unnest(CAST(:contentIds AS bigint[]), CAST(:statuses AS varchar[]), CAST(:addedAts AS timestamp[])) " +
+                   "AS v(content_id, status, added_at) " +
+                   "JOIN content c ON c.id = v.content_id " +
+                   "ON CONFLICT (user_id, content_id) DO UPDATE SET status = EXCLUDED.status, added_at = EXCLUDED.added_at",
+           nativeQuery = true)
+    int upsertEntries(@Param("userId") Long userId,
+                      @Param("contentIds") Long[] contentIds,
+                      @Param("statuses") String[] statuses,
+                      @Param("addedAts") LocalDateTime[] addedAts);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "watchlist_item"))
+    @Query(value = "UPDATE watchlist_item SET status = :status, added_at = now() " +
+                   "WHERE user_id = :userId AND content_id IN (:contentIds)",
+           nativeQuery = true)
+    int updateStatusAll(@Param("userId") Long userId,
+                        @Param("contentIds") Collection<Long> contentIds,
+                        @Param("status") String status);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "watchlist_item"))
+    @Query(value = "DELETE FROM watchlist_item WHERE user_id = :userId AND content_id IN (:contentIds)",
+           nativeQuery = true)
+    int deleteAll(@Param("userId") Long userId, @Param("contentIds") Collection<Long> contentIds);
+}
@@ -0,0 +1,40 @@
+package com.discoverapp.security;
+
+import com.discoverapp.exception.TooManyRequestsException;
+import com.discoverapp.service.LoginThrottleService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Per-IP throttle in front of /api/auth/**; failed logins per account are throttled in AuthController once the body is read
+@Component
+public class AuthThrottleFilter extends OncePerRequestFilter {
+    @Autowired
+    private LoginThrottleService loginThrottleService;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/auth/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            loginThrottleService.checkIp(request.getRemoteAddr());
+        } catch (TooManyRequestsException e) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
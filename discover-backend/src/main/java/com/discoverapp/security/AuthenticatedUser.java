@@ -0,0 +1,36 @@
+package com.discoverapp.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Principal built from the JWT claims, so request handling never needs the users row to know who is calling.
+ */
+public class AuthenticatedUser extends User {
+    private final Long userId;
+    // Login session the token belongs to; null for tokens issued before sessions existed
+    private final String sessionId;
+
+    public AuthenticatedUser(Long userId, String username, String sessionId, Collection<? extends GrantedAuthority> authorities) {
+        super(username, "", authorities);
+        this.userId = userId;
+        this.sessionId = sessionId;
+    }
+
+    public AuthenticatedUser(Long userId, String username, String password, String sessionId,
+                             Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.userId = userId;
+        this.sessionId = sessionId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+}
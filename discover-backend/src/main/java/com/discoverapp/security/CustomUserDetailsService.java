@@ -25,7 +25,6 @@ public class CustomUserDetailsService implements UserDetailsService {
         Set<GrantedAuthority> authorities = user.getRoles().stream()
                 .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toSet());
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(), user.getPassword(), authorities);
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.getPassword(), null, authorities);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.discoverapp.security;
+
+import com.discoverapp.util.TokenBucket;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Lock-free buckets in a ConcurrentHashMap; idle buckets are evicted so one-off IPs don't accumulate
+public class InMemoryRateLimitStore implements RateLimitStore {
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final long idleEvictionNanos;
+
+    public InMemoryRateLimitStore(long idleEvictionSeconds) {
+        this.idleEvictionNanos = TimeUnit.SECONDS.toNanos(idleEvictionSeconds);
+    }
+
+    @Override
+    public TokenBucket.Probe tryConsume(String key, long capacity, long periodSeconds, long cost) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key,
+                    k -> new TokenBucket(capacity, capacity, TimeUnit.SECONDS.toNanos(periodSeconds)));
+        }
+        return bucket.tryConsume(cost);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> now - bucket.lastUsedNanos() > idleEvictionNanos);
+    }
+}
@@ -1,5 +1,6 @@
 package com.discoverapp.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,6 +10,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -21,26 +23,60 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private JwtUtil jwtUtil;
     @Autowired
     private UserDetailsService userDetailsService;
+    @Autowired
+    private UserStatusCache userStatusCache;
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+    @Autowired
+    private SessionRevocationList sessionRevocationList;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         String header = request.getHeader("Authorization");
-        String token = null;
-        String username = null;
-        if (header != null && header.startsWith("Bearer ")) {
-            token = header.substring(7);
-            username = jwtUtil.getUsernameFromToken(token);
-        }
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            if (jwtUtil.validateToken(token)) {
+        if (header != null && header.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String token = header.substring(7);
+            UserDetails principal = verifiedTokenCache.get(token);
+            boolean revoked;
+            if (principal != null) {
+                // Checked on every request: logout on this node must take effect before the token expires
+                revoked = sessionRevocationList.isRevoked(sessionIdOf(principal));
+            } else {
+                // Single parse: signature, expiry and claims in one go
+                Claims claims = verifiedTokenCache.timeVerification(() -> jwtUtil.parseToken(token));
+                principal = claims != null ? resolvePrincipal(claims) : null;
+                // First sight of this token here: the in-memory filters know nothing of other nodes or past restarts
+                revoked = principal != null && sessionRevocationList.isRevokedInStore(sessionIdOf(principal));
+                if (principal != null && !revoked) {
+                    verifiedTokenCache.put(token, principal, claims.getExpiration());
+                }
+            }
+            Long userId = principal instanceof AuthenticatedUser user ? user.getUserId() : null;
+            if (principal != null && !revoked && userStatusCache.isActive(userId)) {
                 UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
+                        principal, null, principal.getAuthorities());
                 auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(auth);
             }
         }
         filterChain.doFilter(request, response);
     }
-} 
\ No newline at end of file
+
+    private static String sessionIdOf(UserDetails principal) {
+        return principal instanceof AuthenticatedUser user ? user.getSessionId() : null;
+    }
+
+    private UserDetails resolvePrincipal(Claims claims) {
+        AuthenticatedUser principal = jwtUtil.toPrincipal(claims);
+        if (principal != null) {
+            return principal;
+        }
+        // Tokens issued before roles were embedded: fall back to the database until they expire
+        try {
+            return userDetailsService.loadUserByUsername(claims.getSubject());
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+}
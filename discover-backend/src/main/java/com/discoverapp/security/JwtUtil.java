@@ -2,83 +2,128 @@ package com.discoverapp.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 
 @Component
 public class JwtUtil {
+    public static final String CLAIM_USER_ID = "userId";
+    public static final String CLAIM_ROLES = "roles";
+    public static final String CLAIM_SESSION_ID = "sid";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private long jwtExpirationMs;
 
-    public String generateToken(String username, Long userId) {
+    // Both are immutable and thread-safe; deriving them per call was pure overhead
+    private Key key;
+    private JwtParser parser;
+
+    @PostConstruct
+    public void init() {
+        key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+    }
+
+    public String generateToken(String username, Long userId, Collection<String> roles, String sessionId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
-        Key key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(username)
-                .claim("userId", userId)
+                .claim(CLAIM_USER_ID, userId)
                 .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+                .setExpiration(expiryDate);
+        if (roles != null) {
+            builder.claim(CLAIM_ROLES, List.copyOf(roles));
+        }
+        if (sessionId != null) {
+            builder.claim(CLAIM_SESSION_ID, sessionId);
+        }
+        return builder.signWith(key, SignatureAlgorithm.HS256).compact();
+    }
+
+    public String generateToken(String username, Long userId, Collection<String> roles) {
+        return generateToken(username, userId, roles, null);
+    }
+
+    public String generateToken(String username, Long userId) {
+        return generateToken(username, userId, null, null);
     }
 
     public String generateToken(String username) {
         // For backward compatibility, generate token without userId
-        return generateToken(username, null);
+        return generateToken(username, null, null, null);
+    }
+
+    public long getExpirationMs() {
+        return jwtExpirationMs;
+    }
+
+    /**
+     * Verifies signature and expiry and returns the claims, or null if the token is not valid.
+     */
+    public Claims parseToken(String token) {
+        try {
+            return parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the principal described by the claims, or null for tokens issued without a roles claim
+     */
+    public AuthenticatedUser toPrincipal(Claims claims) {
+        Object roles = claims.get(CLAIM_ROLES);
+        if (!(roles instanceof Collection<?> roleNames)) {
+            return null;
+        }
+        List<GrantedAuthority> authorities = roleNames.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(role)))
+                .toList();
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        return new AuthenticatedUser(userId != null ? userId.longValue() : null, claims.getSubject(),
+                claims.get(CLAIM_SESSION_ID, String.class), authorities);
     }
 
     public String getUsernameFromToken(String token) {
-        Key key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().getSubject();
+        return parser.parseClaimsJws(token).getBody().getSubject();
     }
 
     public Long getUserIdFromToken(String token) {
-        try {
-            Key key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-            Claims claims = Jwts.parserBuilder().setSigningKey(key).build()
-                    .parseClaimsJws(token).getBody();
-            return claims.get("userId", Long.class);
-        } catch (Exception e) {
+        Claims claims = parseToken(token);
+        if (claims == null) {
             return null;
         }
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        return userId != null ? userId.longValue() : null;
     }
 
     public boolean validateToken(String token) {
-        try {
-            Key key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return parseToken(token) != null;
     }
 
     public String extractUsername() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        System.out.println("Extracting username - Authentication: " + auth);
-        
         if (auth == null || !auth.isAuthenticated()) {
-            System.out.println("Authentication is null or not authenticated");
             return null;
         }
 
         // Extracts the actual User object from the Authentication object.
-        String username = ((User) auth.getPrincipal()).getUsername();
-        System.out.println("Extracted username: " + username);
-        return username;
+        return ((User) auth.getPrincipal()).getUsername();
     }
 
     public Long extractUserId() {
@@ -87,6 +132,11 @@ public class JwtUtil {
             return null;
         }
 
+        // Set by JwtAuthenticationFilter from the token claims
+        if (auth.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getUserId();
+        }
+
         // Try to get userId from the principal if it's our custom User entity
         if (auth.getPrincipal() instanceof com.discoverapp.entity.User) {
             return ((com.discoverapp.entity.User) auth.getPrincipal()).getId();
@@ -109,4 +159,4 @@ public class JwtUtil {
         // This is a simplified version - in a real app you'd get this from the request context
         return null;
     }
-} 
\ No newline at end of file
+}
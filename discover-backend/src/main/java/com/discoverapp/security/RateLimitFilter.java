@@ -0,0 +1,91 @@
+package com.discoverapp.security;
+
+import com.discoverapp.config.RateLimitingConfig;
+import com.discoverapp.util.TokenBucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Global API rate limiter. Runs after JwtAuthenticationFilter so authenticated callers are keyed by user
+ * (shared across their devices) and everyone else by IP. Every response carries RateLimit-Limit,
+ * RateLimit-Remaining and RateLimit-Reset; rejected ones get 429 with Retry-After.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    @Autowired
+    private RateLimitingConfig config;
+    @Autowired
+    private RateLimitStore store;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !config.isEnabled()
+                || HttpMethod.OPTIONS.matches(request.getMethod())
+                || !path.startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        boolean authenticated = auth != null && auth.isAuthenticated() && auth.getPrincipal() instanceof AuthenticatedUser;
+        RateLimitingConfig.Limit limit = authenticated ? config.getAuthenticated() : config.getAnonymous();
+        String key = authenticated
+                ? "user:" + ((AuthenticatedUser) auth.getPrincipal()).getUsername()
+                : "ip:" + request.getRemoteAddr();
+        long cost = costOf(request.getRequestURI());
+
+        TokenBucket.Probe probe = store.tryConsume(key, limit.getCapacity(), limit.getPeriodSeconds(), cost);
+
+        response.setHeader("RateLimit-Limit", String.valueOf(limit.getCapacity()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(probe.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(secondsUntilFull(limit, probe.remaining())));
+
+        if (!probe.allowed()) {
+            meterRegistry.counter("api.rate_limited", "subject", authenticated ? "user" : "ip").increment();
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(probe.nanosToWait()) + 1);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private long costOf(String path) {
+        for (Map.Entry<String, Integer> entry : config.getCosts().entrySet()) {
+            if (pathMatcher.match(entry.getKey(), path)) {
+                return entry.getValue();
+            }
+        }
+        return 1;
+    }
+
+    private long secondsUntilFull(RateLimitingConfig.Limit limit, long remaining) {
+        long missing = limit.getCapacity() - remaining;
+        if (missing <= 0) {
+            return 0;
+        }
+        return (long) Math.ceil((double) missing * limit.getPeriodSeconds() / limit.getCapacity());
+    }
+}
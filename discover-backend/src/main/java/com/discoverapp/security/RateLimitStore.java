@@ -0,0 +1,15 @@
+package com.discoverapp.security;
+
+import com.discoverapp.util.TokenBucket;
+
+/**
+ * Backing storage for rate-limit buckets. The default keeps them in memory per node;
+ * a shared implementation can be plugged in by declaring another bean of this type.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Takes cost tokens from the bucket identified by key, creating it with the given capacity and refill period if needed.
+     */
+    TokenBucket.Probe tryConsume(String key, long capacity, long periodSeconds, long cost);
+}
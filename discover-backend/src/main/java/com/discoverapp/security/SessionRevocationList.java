@@ -0,0 +1,62 @@
+package com.discoverapp.security;
+
+import com.discoverapp.repository.RefreshSessionRepository;
+import com.discoverapp.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracks login sessions revoked while their access tokens may still be live.
+ * refresh_session is the source of truth: a token seen for the first time is checked there with
+ * isRevokedInStore, which holds across restarts and across nodes. Once the token is in VerifiedTokenCache,
+ * isRevoked only consults two in-memory Bloom filters of logouts made on this node, and confirms a positive
+ * (a revoked session or a rare false positive) against refresh_session, so cached tokens never cost a query.
+ *
+ * The filters rotate every access-token lifetime: a revocation stays visible for at least that long,
+ * after which any token carrying the session id has expired anyway.
+ */
+@Component
+public class SessionRevocationList {
+    @Autowired
+    private RefreshSessionRepository refreshSessionRepository;
+
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+
+    public SessionRevocationList(@Value("${jwt.revocation.expected-revocations:100000}") int expectedRevocations,
+                                 @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.current = new BloomFilter(expectedRevocations, falsePositiveRate);
+        this.previous = new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+
+    public void revoke(String sessionId) {
+        current.put(sessionId);
+    }
+
+    public boolean isRevoked(String sessionId) {
+        if (sessionId == null) {
+            return false;
+        }
+        if (!current.mightContain(sessionId) && !previous.mightContain(sessionId)) {
+            return false;
+        }
+        return isRevokedInStore(sessionId);
+    }
+
+    public boolean isRevokedInStore(String sessionId) {
+        return sessionId != null && !refreshSessionRepository.existsBySessionId(sessionId);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.expiration}", initialDelayString = "${jwt.expiration}")
+    public synchronized void rotate() {
+        previous = current;
+        current = new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+}
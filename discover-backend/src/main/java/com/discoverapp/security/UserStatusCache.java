@@ -0,0 +1,54 @@
+package com.discoverapp.security;
+
+import com.discoverapp.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Optional revocation check for stateless tokens: a token whose user has been deleted stops working
+ * within ttl-ms instead of at token expiry. Each user costs at most one primary-key lookup per TTL.
+ * Disabled by default, in which case it never touches the database.
+ */
+@Component
+public class UserStatusCache {
+    private record Status(boolean active, long expiresAt) {}
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${jwt.user-status.enabled:false}")
+    private boolean enabled;
+
+    @Value("${jwt.user-status.ttl-ms:30000}")
+    private long ttlMs;
+
+    private final Map<Long, Status> statuses = new ConcurrentHashMap<>();
+
+    public boolean isActive(Long userId) {
+        if (!enabled || userId == null) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        Status status = statuses.get(userId);
+        if (status == null || status.expiresAt() <= now) {
+            status = new Status(userRepository.existsById(userId), now + ttlMs);
+            statuses.put(userId, status);
+        }
+        return status.active();
+    }
+
+    public void invalidate(Long userId) {
+        statuses.remove(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.user-status.ttl-ms:30000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        statuses.values().removeIf(status -> status.expiresAt() <= now);
+    }
+}
@@ -0,0 +1,105 @@
+package com.discoverapp.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Remembers tokens that already passed signature verification, keyed by their SHA-256 digest
+ * (the raw token is never stored). A hit skips HMAC verification and claim parsing entirely.
+ * Entries expire with their token or after max-age-ms, whichever comes first; a miss sends the token
+ * back through full verification, including the refresh_session check in JwtAuthenticationFilter,
+ * so a logout on another node is honoured here within max-age-ms.
+ *
+ * Metrics: jwt.token.cache (hit/miss), jwt.token.verify (time spent on full verification), jwt.token.cache.size.
+ */
+@Component
+public class VerifiedTokenCache {
+    private record Entry(UserDetails principal, long expiresAt) {}
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long maxAgeMillis;
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer verifyTimer;
+
+    public VerifiedTokenCache(MeterRegistry registry,
+                              @Value("${jwt.token-cache.max-entries:10000}") int maxEntries,
+                              @Value("${jwt.token-cache.max-age-ms:60000}") long maxAgeMillis) {
+        this.maxEntries = maxEntries;
+        this.maxAgeMillis = maxAgeMillis;
+        this.hits = Counter.builder("jwt.token.cache").tag("result", "hit").register(registry);
+        this.misses = Counter.builder("jwt.token.cache").tag("result", "miss").register(registry);
+        this.verifyTimer = Timer.builder("jwt.token.verify").register(registry);
+        Gauge.builder("jwt.token.cache.size", entries, Map::size).register(registry);
+    }
+
+    /**
+     * @return the cached principal, or null if the token has not been verified yet or has expired
+     */
+    public UserDetails get(String token) {
+        String digest = digest(token);
+        Entry entry = entries.get(digest);
+        if (entry == null || entry.expiresAt() <= System.currentTimeMillis()) {
+            if (entry != null) {
+                entries.remove(digest, entry);
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.principal();
+    }
+
+    public void put(String token, UserDetails principal, Date expiresAt) {
+        if (expiresAt == null) {
+            return; // never cache tokens without an expiry
+        }
+        if (entries.size() >= maxEntries) {
+            evictExpired();
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        long expiry = Math.min(expiresAt.getTime(), System.currentTimeMillis() + maxAgeMillis);
+        entries.put(digest(token), new Entry(principal, expiry));
+    }
+
+    public <T> T timeVerification(Supplier<T> verification) {
+        return verifyTimer.record(verification);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.token-cache.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
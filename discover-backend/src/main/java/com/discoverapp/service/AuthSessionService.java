@@ -0,0 +1,114 @@
+package com.discoverapp.service;
+
+import com.discoverapp.dto.AuthResponse;
+import com.discoverapp.entity.RefreshSession;
+import com.discoverapp.entity.User;
+import com.discoverapp.repository.RefreshSessionRepository;
+import com.discoverapp.security.JwtUtil;
+import com.discoverapp.security.SessionRevocationList;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Short-lived access tokens backed by rotating refresh tokens. Every refresh swaps the stored
+ * token digest, so a refresh token works exactly once.
+ */
+@Service
+public class AuthSessionService {
+    @Autowired
+    private RefreshSessionRepository refreshSessionRepository;
+    @Autowired
+    private SessionRevocationList sessionRevocationList;
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Value("${jwt.refresh-expiration:1209600000}")
+    private long refreshExpirationMs;
+
+    private final SecureRandom random = new SecureRandom();
+
+    @Transactional
+    public AuthResponse startSession(User user) {
+        String refreshToken = newRefreshToken();
+        RefreshSession session = RefreshSession.builder()
+                .sessionId(UUID.randomUUID().toString())
+                .tokenHash(hash(refreshToken))
+                .user(user)
+                .createdAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusNanos(refreshExpirationMs * 1_000_000))
+                .build();
+        refreshSessionRepository.save(session);
+        return issue(user, session.getSessionId(), refreshToken);
+    }
+
+    @Transactional
+    public AuthResponse refresh(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new IllegalArgumentException("Refresh token is required");
+        }
+        String oldHash = hash(refreshToken);
+        RefreshSession session = refreshSessionRepository.findByTokenHashWithUser(oldHash)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
+
+        String rotated = newRefreshToken();
+        LocalDateTime now = LocalDateTime.now();
+        int updated = refreshSessionRepository.rotate(session.getId(), oldHash, hash(rotated),
+                now.plusNanos(refreshExpirationMs * 1_000_000), now);
+        if (updated == 0) {
+            throw new IllegalArgumentException("Refresh token expired or already used");
+        }
+        return issue(session.getUser(), session.getSessionId(), rotated);
+    }
+
+    /**
+     * Ends the session: the refresh token stops working immediately and access tokens
+     * issued for the session are rejected by the authentication filter.
+     */
+    @Transactional // read-write, so the lookup hits the primary and sees a session started or rotated moments ago
+    public void logout(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return;
+        }
+        refreshSessionRepository.findByTokenHashWithUser(hash(refreshToken)).ifPresent(session -> {
+            refreshSessionRepository.deleteBySessionId(session.getSessionId());
+            sessionRevocationList.revoke(session.getSessionId());
+        });
+    }
+
+    @Scheduled(cron = "${jwt.refresh-cleanup-cron:0 15 4 * * *}")
+    public void deleteExpiredSessions() {
+        refreshSessionRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private AuthResponse issue(User user, String sessionId, String refreshToken) {
+        String accessToken = jwtUtil.generateToken(user.getUsername(), user.getId(), user.getRoles(), sessionId);
+        return new AuthResponse(accessToken, refreshToken, jwtUtil.getExpirationMs() / 1000);
+    }
+
+    private String newRefreshToken() {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    // 32-byte digest, base64 without padding = 43 chars
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.discoverapp.service;
+
+import com.discoverapp.dto.ChannelPurgeStatusDto;
+import com.discoverapp.repository.ArchivedMessageRepository;
+import com.discoverapp.repository.ChannelReadStateRepository;
+import com.discoverapp.repository.ChannelRepository;
+import com.discoverapp.repository.MessageRepository;
+import com.discoverapp.types.ChannelPurgeState;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Deletes a channel and everything that hangs off it with set-based SQL, never loading
+ * the channel's messages or members into the persistence context.
+ * Messages are removed in fixed-size chunks, each in its own transaction, so very large
+ * channels neither exhaust memory nor hold one giant lock.
+ */
+@Service
+public class ChannelPurgeService {
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ArchivedMessageRepository archivedMessageRepository;
+
+    @Autowired
+    private ChannelReadStateRepository channelReadStateRepository;
+
+    @Autowired
+    private UnreadCounterService unreadCounterService;
+
+    @Value("${channel.purge.chunk-size:5000}")
+    private int chunkSize;
+
+    // Finished purges are kept around for a while so clients can poll the final state
+    private final Duration statusRetention = Duration.ofHours(1);
+
+    private final Map<Long, ChannelPurgeStatusDto> statuses = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a purge for the channel and returns its status. If a purge is already
+     * pending or running for this channel, the existing status is returned instead.
+     */
+    public ChannelPurgeStatusDto register(Long channelId) {
+        evictFinished();
+        return statuses.compute(channelId, (id, existing) -> {
+            if (existing != null && isActive(existing)) {
+                return existing;
+            }
+            ChannelPurgeStatusDto status = new ChannelPurgeStatusDto();
+            status.setChannelId(id);
+            status.setState(ChannelPurgeState.PENDING);
+            return status;
+        });
+    }
+
+    public Optional<ChannelPurgeStatusDto> getStatus(Long channelId) {
+        return Optional.ofNullable(statuses.get(channelId));
+    }
+
+    @Async("channelPurgeExecutor")
+    public void purge(Long channelId) {
+        ChannelPurgeStatusDto pending = statuses.get(channelId);
+        if (pending == null || pending.getState() != ChannelPurgeState.PENDING) {
+            return;
+        }
+        ChannelPurgeStatusDto running = copyOf(pending);
+        running.setState(ChannelPurgeState.RUNNING);
+        running.setStartedAt(LocalDateTime.now());
+        // Only the caller that wins the PENDING -> RUNNING transition does the work
+        if (!statuses.replace(channelId, pending, running)) {
+            return;
+        }
+
+        try {
+            long totalMessages = messageRepository.countByChannelId(channelId);
+            update(channelId, s -> s.setTotalMessages(totalMessages));
+
+            // Step 1: Clear parent message references so chunks can be deleted in any order
+            while (messageRepository.clearParentMessagesByChannelIdChunk(channelId, chunkSize) > 0) {
+                // keep going until no replies are left
+            }
+
+            // Step 2: Delete the messages chunk by chunk
+            int deleted;
+            while ((deleted = messageRepository.deleteByChannelIdChunk(channelId, chunkSize)) > 0) {
+                int chunk = deleted;
+                update(channelId, s -> s.setMessagesDeleted(s.getMessagesDeleted() + chunk));
+            }
+
+            // Step 2b: Delete the channel's archived history the same way
+            while (archivedMessageRepository.deleteByChannelIdChunk(channelId, chunkSize) > 0) {
+                // keep going until the archive is empty for this channel
+            }
+
+            // Step 3: Clear channel members and their read cursors
+            channelRepository.clearChannelMembers(channelId);
+            channelReadStateRepository.deleteByChannelId(channelId);
+
+            // Step 4: Delete the channel row itself
+            channelRepository.deleteChannelRow(channelId);
+            unreadCounterService.forget(channelId);
+
+            update(channelId, s -> {
+                s.setState(ChannelPurgeState.COMPLETED);
+                s.setFinishedAt(LocalDateTime.now());
+            });
+        } catch (Exception e) {
+            update(channelId, s -> {
+                s.setState(ChannelPurgeState.FAILED);
+                s.setError(e.getMessage());
+                s.setFinishedAt(LocalDateTime.now());
+            });
+        }
+    }
+
+    // Statuses are replaced rather than mutated so readers on request threads always see a consistent snapshot
+    private void update(Long channelId, Consumer<ChannelPurgeStatusDto> change) {
+        statuses.computeIfPresent(channelId, (id, current) -> {
+            ChannelPurgeStatusDto next = copyOf(current);
+            change.accept(next);
+            return next;
+        });
+    }
+
+    private ChannelPurgeStatusDto copyOf(ChannelPurgeStatusDto current) {
+        ChannelPurgeStatusDto copy = new ChannelPurgeStatusDto();
+        copy.setChannelId(current.getChannelId());
+        copy.setState(current.getState());
+        copy.setTotalMessages(current.getTotalMessages());
+        copy.setMessagesDeleted(current.getMessagesDeleted());
+        copy.setStartedAt(current.getStartedAt());
+        copy.setFinishedAt(current.getFinishedAt());
+        copy.setError(current.getError());
+        return copy;
+    }
+
+    private boolean isActive(ChannelPurgeStatusDto status) {
+        return status.getState() == ChannelPurgeState.PENDING || status.getState() == ChannelPurgeState.RUNNING;
+    }
+
+    private void evictFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(statusRetention);
+        statuses.values().removeIf(s -> s.getFinishedAt() != null && s.getFinishedAt().isBefore(cutoff));
+    }
+}
@@ -1,12 +1,15 @@
 package com.discoverapp.service;
 
 import com.discoverapp.dto.ChannelDto;
+import com.discoverapp.dto.ChannelPurgeStatusDto;
 import com.discoverapp.dto.CreateChannelRequest;
 import com.discoverapp.entity.Channel;
+import com.discoverapp.entity.ChannelReadState;
 import com.discoverapp.entity.User;
+import com.discoverapp.repository.ChannelReadStateRepository;
 import com.discoverapp.repository.ChannelRepository;
-import com.discoverapp.repository.MessageRepository;
 import com.discoverapp.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +21,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 public class ChannelService {
     @Autowired
@@ -27,33 +31,38 @@ public class ChannelService {
     private UserRepository userRepository;
 
     @Autowired
-    private MessageRepository messageRepository;
+    private ChannelPurgeService channelPurgeService;
+
+    @Autowired
+    private ChannelReadStateRepository channelReadStateRepository;
+
+    @Autowired
+    private UnreadCounterService unreadCounterService;
+
+    @Autowired
+    private ReplicaLagService replicaLagService;
 
     public ChannelDto createChannel(String username, CreateChannelRequest dto) {
-        System.out.println("Creating channel for user: " + username + ", dto: " + dto);
-        
         Optional<User> userOpt = userRepository.findByUsername(username);
         if (userOpt.isEmpty()) {
-            System.out.println("User not found: " + username);
             throw new IllegalArgumentException("User not found with UserName: " + username);
         }
         
         User creator = userOpt.get();
-        System.out.println("Found user: " + creator.getUsername() + " with ID: " + creator.getId());
         
         Channel channel = Channel.builder()
                 .name(dto.getName())
                 .description(dto.getDescription())
+                .retentionDays(dto.getRetentionDays())
                 .createdBy(creator)
                 .createdAt(LocalDateTime.now())
                 .build();
 
         channelRepository.save(channel);
-        System.out.println("Channel saved with ID: " + channel.getId());
-        
-        ChannelDto result = toDto(channel, creator);
-        System.out.println("Channel DTO created: " + result);
-        return result;
+        replicaLagService.markWrite(username);
+        log.info("Channel {} created by {}", channel.getId(), username);
+
+        return toDto(channel, creator);
     }
 
     public void addMemberToChannel(Long channelId, String username) {
@@ -69,6 +78,7 @@ public class ChannelService {
 
         user.getJoinedChannels().add(channel);
         userRepository.saveAndFlush(user);
+        replicaLagService.markWrite(username);
     }
 
     public void removeMemberFromChannel(Long channelId, String username) {
@@ -84,41 +94,62 @@ public class ChannelService {
 
         user.getJoinedChannels().remove(channel);
         userRepository.saveAndFlush(user);
+        replicaLagService.markWrite(username);
     }
 
-    public void deleteChannel(Long id) {
-        Optional<Channel> channelOpt = channelRepository.findById(id);
-        if (channelOpt.isEmpty()) {
+    /**
+     * Schedules an asynchronous, chunked purge of the channel, its messages and its memberships.
+     * Returns immediately with the purge status; progress can be polled via {@link #getDeleteStatus(Long)}.
+     */
+    public ChannelPurgeStatusDto deleteChannel(Long id) {
+        if (!channelRepository.existsById(id)) {
             throw new IllegalArgumentException("Channel not found with Id: " + id);
         }
-        Channel channel = channelOpt.get();
-
-        // Step 1: Clear parent message references
-        messageRepository.clearParentMessagesByChannelId(id);
 
-        // Step 2: Delete all messages in the channel
-        messageRepository.deleteByChannelId(id);
-
-        // Step 3: Clear channel members
-        channelRepository.clearChannelMembers(id);
+        ChannelPurgeStatusDto status = channelPurgeService.register(id);
+        channelPurgeService.purge(id);
+        replicaLagService.markWrite();
+        return status;
+    }
 
-        // Step 4: Delete the channel
-        channelRepository.deleteById(id);
+    public ChannelPurgeStatusDto getDeleteStatus(Long id) {
+        return channelPurgeService.getStatus(id)
+                .orElseThrow(() -> new IllegalArgumentException("No deletion in progress for channel: " + id));
     }
 
+    @Transactional(readOnly = true)
     public List<ChannelDto> listChannels(String currentUsername) {
         User currentUser = userRepository.findByUsername(currentUsername)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-        List<Channel> channels = channelRepository.findAll();
-
-
-        List<ChannelDto> chan = channels.stream()
-                .map(channel -> toDto(channel, currentUser))
+        // Channels, member counts and this user's read cursors come back together, so the list is one query
+        List<Object[]> rows = channelReadStateRepository.findAllChannelsWithReadState(currentUser.getId());
+
+        List<ChannelDto> chan = rows.stream()
+                .map(row -> {
+                    Channel channel = (Channel) row[0];
+                    ChannelReadState readState = (ChannelReadState) row[1];
+                    ChannelDto dto = toDto(channel, ((Number) row[2]).intValue(), ((Number) row[3]).longValue() > 0);
+                    long total = unreadCounterService.currentCount(channel.getId(), ((Number) row[4]).longValue());
+                    long read = readState != null ? readState.getReadMessageCount() : 0;
+                    dto.setLastReadMessageId(readState != null ? readState.getLastReadMessageId() : null);
+                    dto.setUnreadCount(Math.max(0, total - read));
+                    return dto;
+                })
                 .collect(Collectors.toList());
         return chan;
     }
 
+    public void markChannelRead(Long channelId, String username, Long lastReadMessageId) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        if (!channelRepository.existsById(channelId)) {
+            throw new IllegalArgumentException("Channel not found with Id: " + channelId);
+        }
+        unreadCounterService.markRead(user.getId(), channelId, lastReadMessageId);
+        replicaLagService.markWrite(username);
+    }
+
     @Transactional
     public ChannelDto getChannel(Long channelId, String currentUsername) {
         Channel channel = channelRepository.findByIdWithMembers(channelId)
@@ -141,7 +172,7 @@ public class ChannelService {
         }
 
         if (!isOwner && !isMember) {
-            System.out.println("Access denied - user is neither owner nor member");
+            log.debug("{} denied access to channel {}: not owner or member", currentUsername, channelId);
             throw new IllegalArgumentException("User is not a member of this channel");
         }
 
@@ -153,6 +184,7 @@ public class ChannelService {
         dto.setId(channel.getId());
         dto.setName(channel.getName());
         dto.setDescription(channel.getDescription());
+        dto.setRetentionDays(channel.getRetentionDays());
         dto.setCreatedAt(channel.getCreatedAt());
         dto.setCreatedById(channel.getCreatedBy() != null ? channel.getCreatedBy().getId() : null);
         dto.setCreatedByUsername(channel.getCreatedBy() != null ? channel.getCreatedBy().getUsername() : null);
@@ -160,11 +192,26 @@ public class ChannelService {
         return dto;
     }
 
+    private ChannelDto toDto(Channel channel, int memberCount, boolean joined) {
+        ChannelDto dto = new ChannelDto();
+        dto.setId(channel.getId());
+        dto.setName(channel.getName());
+        dto.setDescription(channel.getDescription());
+        dto.setRetentionDays(channel.getRetentionDays());
+        dto.setCreatedAt(channel.getCreatedAt());
+        dto.setCreatedById(channel.getCreatedBy() != null ? channel.getCreatedBy().getId() : null);
+        dto.setCreatedByUsername(channel.getCreatedBy() != null ? channel.getCreatedBy().getUsername() : null);
+        dto.setMemberCount(memberCount);
+        dto.setJoined(joined);
+        return dto;
+    }
+
     private ChannelDto toDto(Channel channel, User currentUser) {
         ChannelDto dto = new ChannelDto();
         dto.setId(channel.getId());
         dto.setName(channel.getName());
         dto.setDescription(channel.getDescription());
+        dto.setRetentionDays(channel.getRetentionDays());
         dto.setCreatedAt(channel.getCreatedAt());
         dto.setCreatedById(channel.getCreatedBy() != null ? channel.getCreatedBy().getId() : null);
         dto.setCreatedByUsername(channel.getCreatedBy() != null ? channel.getCreatedBy().getUsername() : null);
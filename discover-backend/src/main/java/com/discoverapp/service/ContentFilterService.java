@@ -0,0 +1,163 @@
+package com.discoverapp.service;
+
+import com.discoverapp.util.AhoCorasickMatcher;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Profanity/spam filter for user-written text (messages and reviews).
+ * The word list is the union of content-filter.words, an optional file and the words set at runtime through
+ * the moderation API; each source is kept separately, so reloading the file never drops runtime words.
+ * Whenever it changes the automaton is rebuilt on a background thread and swapped in atomically, so
+ * request threads never wait on a rebuild and always see a complete matcher.
+ */
+@Slf4j
+@Service
+public class ContentFilterService {
+    @Autowired
+    @Qualifier("contentFilterExecutor")
+    private Executor contentFilterExecutor;
+
+    @Value("${content-filter.words:}")
+    private String configuredWords;
+
+    @Value("${content-filter.words-file:}")
+    private String wordsFile;
+
+    private volatile AhoCorasickMatcher matcher = AhoCorasickMatcher.empty();
+
+    private volatile List<String> words = List.of();
+
+    private volatile List<String> fileWords = List.of();
+
+    private volatile List<String> runtimeWords = List.of();
+
+    // Guards against an older rebuild finishing after a newer one and overwriting it
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile long wordsFileLastModified = -1;
+
+    @PostConstruct
+    public void init() {
+        fileWords = readWordsFile();
+        words = mergedWords();
+        matcher = AhoCorasickMatcher.compile(words);
+    }
+
+    /**
+     * @return true if the text contains any blocked word
+     */
+    public boolean isBlocked(String text) {
+        return matcher.matches(text);
+    }
+
+    /**
+     * @return the first blocked word found in the text (normalised), or null
+     */
+    public String findBlocked(String text) {
+        return matcher.findFirst(text);
+    }
+
+    public List<String> getWords() {
+        return words;
+    }
+
+    /**
+     * Replaces the runtime word list; configured and file words stay blocked regardless.
+     * The new matcher is compiled off-thread; until it is ready the previous one stays active.
+     */
+    public void updateWords(List<String> newWords) {
+        runtimeWords = newWords.stream()
+                .map(String::trim)
+                .filter(w -> !w.isEmpty())
+                .distinct()
+                .toList();
+        rebuild();
+    }
+
+    private void rebuild() {
+        List<String> snapshot;
+        long current;
+        synchronized (generation) {
+            snapshot = mergedWords();
+            words = snapshot;
+            current = generation.incrementAndGet();
+        }
+        contentFilterExecutor.execute(() -> {
+            AhoCorasickMatcher rebuilt = AhoCorasickMatcher.compile(snapshot);
+            synchronized (generation) {
+                if (generation.get() == current) {
+                    matcher = rebuilt;
+                }
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${content-filter.reload-interval-ms:60000}")
+    public void reloadWordsFileIfChanged() {
+        if (wordsFile == null || wordsFile.isBlank()) {
+            return;
+        }
+        try {
+            long lastModified = Files.getLastModifiedTime(Path.of(wordsFile)).toMillis();
+            if (lastModified == wordsFileLastModified) {
+                return;
+            }
+            fileWords = readWordsFile();
+            rebuild();
+        } catch (IOException e) {
+            log.warn("Failed to check content filter word list: {}", e.getMessage());
+        }
+    }
+
+    private List<String> mergedWords() {
+        Set<String> merged = new LinkedHashSet<>(parse(configuredWords));
+        merged.addAll(fileWords);
+        merged.addAll(runtimeWords);
+        return List.copyOf(merged);
+    }
+
+    private List<String> readWordsFile() {
+        if (wordsFile == null || wordsFile.isBlank()) {
+            return List.of();
+        }
+        try {
+            Path path = Path.of(wordsFile);
+            wordsFileLastModified = Files.getLastModifiedTime(path).toMillis();
+            try (var lines = Files.lines(path)) {
+                return lines.map(String::trim)
+                        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                        .collect(Collectors.toList());
+            }
+        } catch (IOException e) {
+            log.warn("Failed to read content filter word list: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private List<String> parse(String commaSeparated) {
+        if (commaSeparated == null || commaSeparated.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(commaSeparated.split(","))
+                .map(String::trim)
+                .filter(w -> !w.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
@@ -1,7 +1,9 @@
 package com.discoverapp.service;
 
 import com.discoverapp.dto.ContentDto;
+import com.discoverapp.dto.RatingSummaryDto;
 import com.discoverapp.entity.Content;
+import com.discoverapp.entity.ContentRatingAggregate;
 import com.discoverapp.entity.FetchLog;
 import com.discoverapp.entity.Genre;
 import com.discoverapp.repository.FetchLogRepository;
@@ -10,9 +12,14 @@ import com.discoverapp.types.ContentLabel;
 import com.discoverapp.types.ContentType;
 import com.discoverapp.external.JikanClient;
 import com.discoverapp.external.TmdbClient;
+import com.discoverapp.repository.ContentRatingAggregateRepository;
 import com.discoverapp.repository.ContentRepository;
+import lombok.extern.slf4j.Slf4j;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -21,6 +28,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import com.discoverapp.dto.ContentDetailsDto;
 
+@Slf4j
 @Service
 public class ContentService {
     @Autowired
@@ -30,26 +38,36 @@ public class ContentService {
     @Autowired
     public FetchLogRepository fetchLogRepository;
     @Autowired
+    private ContentRatingAggregateRepository ratingAggregateRepository;
+    @Autowired
     private TmdbClient tmdbClient;
     @Autowired
     private JikanClient jikanClient;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     Duration ttl = Duration.ofHours(12);
 
+    // Cache-hit paths only read, so they run read-only and can be served by a replica
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
     public ContentDto getContent(Long id) {
-        Optional<Content> contentOpt = contentRepository.findById(id);
-        if (contentOpt.isPresent()) {
-            return toDto(contentOpt.get());
-        }
-        return null;
+        return readOnlyTransaction.execute(status -> contentRepository.findById(id)
+                .map(content -> withRatings(List.of(toDto(content))).get(0))
+                .orElse(null));
     }
 
     public ContentDto getContentByExternalId(String externalId, ContentType type) {
-        Optional<Content> contentOpt = contentRepository.findAll().stream()
-                .filter(m -> externalId.equals(m.getExternalId()) && type.equals(m.getType()))
-                .findFirst();
+        Optional<Content> contentOpt = contentRepository.findFirstByExternalIdAndType(externalId, type);
         if (contentOpt.isPresent()) {
-            return toDto(contentOpt.get());
+            return withRatings(List.of(toDto(contentOpt.get()))).get(0);
         }
         ContentDto dto = null;
         if (ContentType.ANIME.equals(type)) {
@@ -79,10 +97,9 @@ public class ContentService {
 
         // If TTL is valid, return all existing content of that type
         if (isRecentFetch) {
-            return contentRepository.findAll().stream()
-                    .filter(m -> type.equals(m.getType()))
+            return readOnlyTransaction.execute(status -> withRatings(contentRepository.findByType(type).stream()
                     .map(this::toDto)
-                    .toList();
+                    .toList()));
         }
 
         List<ContentDto> fetchedDtos;
@@ -93,10 +110,7 @@ public class ContentService {
         }
 
         // Filter out duplicates
-        Set<String> existingExternalIds = contentRepository.findAll().stream()
-                .filter(m -> type.equals(m.getType()))
-                .map(Content::getExternalId)
-                .collect(Collectors.toSet());
+        Set<String> existingExternalIds = findExistingExternalIds(type, fetchedDtos);
 
         List<Content> newContent = fetchedDtos.stream()
                 .filter(dto -> !existingExternalIds.contains(dto.getExternalId()))
@@ -106,9 +120,9 @@ public class ContentService {
         List<Content> contentToSave = contentRepository.saveAll(newContent);
         fetchLogRepository.save(new FetchLog(fetchKey, now));
 
-        return contentToSave.stream()
+        return withRatings(contentToSave.stream()
                 .map(this::toDto)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
 
@@ -136,42 +150,47 @@ public class ContentService {
 
         // If TTL is valid, return cached data from database
         if (isRecentFetch) {
-            Optional<Content> contentOpt = contentRepository.findAll().stream()
-                    .filter(c -> externalId.equals(c.getExternalId()) && type.equals(c.getType()))
-                    .findFirst();
+            ContentDetailsDto cached = readOnlyTransaction.execute(status -> {
+                Optional<Content> contentOpt = contentRepository.findFirstByExternalIdAndType(externalId, type);
 
-            if (contentOpt.isPresent()) {
-                Content content = contentOpt.get();
-                ContentDetailsDto details = new ContentDetailsDto();
+                if (contentOpt.isPresent()) {
+                    Content content = contentOpt.get();
+                    ContentDetailsDto details = new ContentDetailsDto();
                 
-                // Set basic content information
-                details.setId(content.getId());
-                details.setTitle(content.getTitle());
-                details.setDescription(content.getDescription());
-                details.setGenreNames(content.getGenres() != null ? 
-                    content.getGenres().stream().map(Genre::getName).toList() : new ArrayList<>());
-                details.setPosterUrl(content.getPosterUrl());
-                details.setRelease_date(content.getReleaseDate());
-                details.setTrailerUrl(content.getTrailerUrl());
-                details.setCastList(content.getCastList());
-                details.setRatings(content.getRatings());
-                details.setType(content.getType());
-                details.setLabel(content.getLabel());
-                details.setExternalId(content.getExternalId());
-                details.setImageUrls(content.getImageUrls());
-                details.setRecommendedContentIds(content.getRecommendedContentIds());
-                details.setTrailerId(content.getTrailerId());
-
-                // Get recommended content from database
-                if (content.getRecommendedContentIds() != null && !content.getRecommendedContentIds().isEmpty()) {
-                    List<ContentDto> recommended = contentRepository.findAll().stream()
-                            .filter(c -> content.getRecommendedContentIds().contains(c.getExternalId()))
-                            .map(this::toDto)
-                            .toList();
-                    details.setRecommendedContent(recommended);
+                    // Set basic content information
+                    details.setId(content.getId());
+                    details.setTitle(content.getTitle());
+                    details.setDescription(content.getDescription());
+                    details.setGenreNames(content.getGenres() != null ? 
+                        content.getGenres().stream().map(Genre::getName).toList() : new ArrayList<>());
+                    details.setPosterUrl(content.getPosterUrl());
+                    details.setRelease_date(content.getReleaseDate());
+                    details.setTrailerUrl(content.getTrailerUrl());
+                    details.setCastList(content.getCastList());
+                    details.setRatings(content.getRatings());
+                    details.setType(content.getType());
+                    details.setLabel(content.getLabel());
+                    details.setExternalId(content.getExternalId());
+                    details.setImageUrls(content.getImageUrls());
+                    details.setRecommendedContentIds(content.getRecommendedContentIds());
+                    details.setTrailerId(content.getTrailerId());
+                    details.setUserRating(findRatingSummaries(List.of(content.getId()))
+                            .getOrDefault(content.getId(), emptyRatingSummary()));
+
+                    // Get recommended content from database
+                    if (content.getRecommendedContentIds() != null && !content.getRecommendedContentIds().isEmpty()) {
+                        List<ContentDto> recommended = contentRepository.findByExternalIdIn(content.getRecommendedContentIds()).stream()
+                                .map(this::toDto)
+                                .toList();
+                        details.setRecommendedContent(withRatings(recommended));
+                    }
+
+                    return details;
                 }
-
-                return details;
+                return null;
+            });
+            if (cached != null) {
+                return cached;
             }
         }
 
@@ -179,9 +198,7 @@ public class ContentService {
         ContentDetailsDto details = new ContentDetailsDto();
 
         // First, get or fetch the basic content information
-        Optional<Content> existingContentOpt = contentRepository.findAll().stream()
-                .filter(c -> externalId.equals(c.getExternalId()) && type.equals(c.getType()))
-                .findFirst();
+        Optional<Content> existingContentOpt = contentRepository.findFirstByExternalIdAndType(externalId, type);
 
         Content content;
         if (existingContentOpt.isPresent()) {
@@ -220,14 +237,16 @@ public class ContentService {
         details.setImageUrls(content.getImageUrls());
         details.setRecommendedContentIds(content.getRecommendedContentIds());
         details.setTrailerId(content.getTrailerId());
+        details.setUserRating(findRatingSummaries(List.of(content.getId()))
+                .getOrDefault(content.getId(), emptyRatingSummary()));
 
         // Fetch enhanced details
         if (ContentType.ANIME.equals(type)) {
             // Fetch anime details from Jikan
             details.setImageUrls(jikanClient.fetchImages(externalId));
-            List<ContentDto> x = jikanClient.fetchRecommendations(externalId);
-            details.setRecommendedContent(x);
-            System.out.println("List: " + x.toString());
+            List<ContentDto> recommendations = jikanClient.fetchRecommendations(externalId);
+            details.setRecommendedContent(recommendations);
+            log.debug("Fetched {} recommendations for anime {}", recommendations.size(), externalId);
 
             // For anime, trailer URL is already available in the main content response
             if (content.getTrailerUrl() != null) {
@@ -246,10 +265,7 @@ public class ContentService {
         }
 
         // Filter out duplicates and save new recommended content
-        Set<String> existingExternalIds = contentRepository.findAll().stream()
-                .filter(m -> type.equals(m.getType()))
-                .map(Content::getExternalId)
-                .collect(Collectors.toSet());
+        Set<String> existingExternalIds = findExistingExternalIds(type, details.getRecommendedContent());
 
         List<Content> newContent = details.getRecommendedContent().stream()
                 .filter(dto -> !existingExternalIds.contains(dto.getExternalId()))
@@ -271,11 +287,10 @@ public class ContentService {
             content.setRecommendedContentIds(recommendedIds);
 
             // Get Recommended Content from Database
-            List<ContentDto> recommendedContent = contentRepository.findAll().stream()
-                    .filter(c -> recommendedIds.contains(c.getExternalId()))
+            List<ContentDto> recommendedContent = contentRepository.findByExternalIdIn(recommendedIds).stream()
                     .map(this::toDto)
                     .collect(Collectors.toCollection(ArrayList::new));
-            details.setRecommendedContent(recommendedContent);
+            details.setRecommendedContent(withRatings(recommendedContent));
         }
 
         contentRepository.save(content);
@@ -314,11 +329,13 @@ public class ContentService {
         }
 
         if (!searchResults.isEmpty()) {
-            // Filter out duplicates
-            Set<String> existingExternalIds = contentRepository.findAll().stream()
-                    .map(Content::getExternalId)
+            Set<String> searchExternalIds = searchResults.stream()
+                    .map(ContentDto::getExternalId)
                     .collect(Collectors.toSet());
 
+            // Filter out duplicates
+            Set<String> existingExternalIds = contentRepository.findExistingExternalIds(searchExternalIds);
+
             List<Content> contentToSave = searchResults.stream()
                     .filter(dto -> !existingExternalIds.contains(dto.getExternalId()))
                     .map(this::fromDto)
@@ -326,14 +343,9 @@ public class ContentService {
 
             contentRepository.saveAll(contentToSave);
 
-            Set<String> searchExternalIds = searchResults.stream()
-                    .map(ContentDto::getExternalId)
-                    .collect(Collectors.toSet());
-
-            return contentRepository.findAll().stream()
-                    .filter(content -> content.getType() == type && searchExternalIds.contains(content.getExternalId()))
+            return withRatings(contentRepository.findByTypeAndExternalIdIn(type, searchExternalIds).stream()
                     .map(this::toDto)
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
         }
 
         return Collections.emptyList();
@@ -362,8 +374,10 @@ public class ContentService {
             fetchedDtos = tmdbClient.fetchTrendingContent(type);
         }
 
-        Map<String, Content> existingByExternalId = contentRepository.findAll().stream()
-                .filter(m -> type.equals(m.getType()))
+        Set<String> fetchedExternalIds = fetchedDtos.stream()
+                .map(ContentDto::getExternalId)
+                .collect(Collectors.toSet());
+        Map<String, Content> existingByExternalId = contentRepository.findByTypeAndExternalIdIn(type, fetchedExternalIds).stream()
                 .collect(Collectors.toMap(
                         Content::getExternalId,
                         Function.identity(),
@@ -387,10 +401,68 @@ public class ContentService {
 
         fetchLogRepository.save(new FetchLog(fetchKey, now));
 
-        return contentRepository.findAll().stream()
-                .filter(m -> type.equals(m.getType()) && ContentLabel.TRENDING.equals(m.getLabel()))
+        return withRatings(contentRepository.findByTypeAndLabel(type, ContentLabel.TRENDING).stream()
                 .map(this::toDto)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+    }
+
+    // External ids from the given DTOs that are already stored for this type, in one query
+    private Set<String> findExistingExternalIds(ContentType type, List<ContentDto> dtos) {
+        Set<String> externalIds = dtos.stream()
+                .map(ContentDto::getExternalId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (externalIds.isEmpty()) {
+            return Set.of();
+        }
+        return contentRepository.findIdsByTypeAndExternalIds(type, externalIds).stream()
+                .map(row -> (String) row[0])
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Attaches the review aggregates to a page of content with a single primary-key lookup,
+     * whatever the page size.
+     */
+    public List<ContentDto> withRatings(List<ContentDto> dtos) {
+        List<Long> ids = dtos.stream()
+                .map(ContentDto::getId)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<Long, RatingSummaryDto> summaries = findRatingSummaries(ids);
+        for (ContentDto dto : dtos) {
+            dto.setUserRating(dto.getId() != null
+                    ? summaries.getOrDefault(dto.getId(), emptyRatingSummary())
+                    : emptyRatingSummary());
+        }
+        return dtos;
+    }
+
+    private Map<Long, RatingSummaryDto> findRatingSummaries(Collection<Long> contentIds) {
+        if (contentIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, RatingSummaryDto> summaries = new HashMap<>();
+        for (ContentRatingAggregate aggregate : ratingAggregateRepository.findAllById(contentIds)) {
+            summaries.put(aggregate.getContentId(), toRatingSummary(aggregate));
+        }
+        return summaries;
+    }
+
+    private RatingSummaryDto toRatingSummary(ContentRatingAggregate aggregate) {
+        List<Integer> histogram = new ArrayList<>(ContentRatingAggregate.BUCKETS);
+        int[] buckets = aggregate.getHistogram();
+        for (int i = 0; i < ContentRatingAggregate.BUCKETS; i++) {
+            histogram.add(buckets != null && i < buckets.length ? buckets[i] : 0);
+        }
+        Double average = aggregate.getReviewCount() > 0
+                ? aggregate.getRatingSum() / aggregate.getReviewCount()
+                : null;
+        return new RatingSummaryDto(aggregate.getReviewCount(), average, histogram);
+    }
+
+    private RatingSummaryDto emptyRatingSummary() {
+        return new RatingSummaryDto(0, null, Collections.nCopies(ContentRatingAggregate.BUCKETS, 0));
     }
 
     public ContentDto toDto(Content content) {
@@ -9,6 +9,7 @@ import com.discoverapp.repository.FetchLogRepository;
 import com.discoverapp.types.ContentType;
 import com.discoverapp.entity.Genre;
 import com.discoverapp.repository.GenreRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -19,6 +20,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 public class GenreService {
     @Autowired
@@ -35,10 +37,15 @@ public class GenreService {
 
     Duration ttl = Duration.ofHours(12);
 
+    /**
+     * Pulls the genre list for one content type from upstream and stores any new genres.
+     * Skipped if that type was refreshed within the TTL; the fetch is only logged when it succeeds,
+     * so a failed refresh is retried on the next run.
+     */
     public void fetchAndCacheGenres(ContentType contentType) {
         try {
             LocalDateTime now = LocalDateTime.now();
-            String fetchKey = "GENRES";
+            String fetchKey = "GENRES_" + contentType.name();
 
             // Check if we recently fetched this type
             Optional<FetchLog> fetchLog = fetchLogRepository.findById(fetchKey);
@@ -46,7 +53,6 @@ public class GenreService {
                     .map(log -> log.getLastFetchedAt().isAfter(now.minus(ttl)))
                     .orElse(false);
 
-            // If TTL is valid, return all existing content of that type
             if (isRecentFetch) {
                 return;
             }
@@ -81,9 +87,10 @@ public class GenreService {
                 if (!toSave.isEmpty()) {
                     genreRepository.saveAll(toSave);
                 }
+                fetchLogRepository.save(new FetchLog(fetchKey, now));
             }
         } catch (Exception e) {
-            System.err.println("Failed to fetch genres: " + e.getMessage());
+            log.warn("Failed to fetch {} genres: {}", contentType, e.getMessage());
         }
     }
 
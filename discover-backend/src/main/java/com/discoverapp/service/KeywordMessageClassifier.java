@@ -0,0 +1,35 @@
+package com.discoverapp.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Local first-pass classifier backed by the compiled word-list automaton in {@link ContentFilterService}.
+ */
+@Service
+@Order(1)
+public class KeywordMessageClassifier implements MessageClassifier {
+    @Autowired
+    private ContentFilterService contentFilterService;
+
+    @Override
+    public Set<Long> flag(Map<Long, String> messages) {
+        Set<Long> flagged = new HashSet<>();
+        messages.forEach((id, text) -> {
+            if (contentFilterService.isBlocked(text)) {
+                flagged.add(id);
+            }
+        });
+        return flagged;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !contentFilterService.getWords().isEmpty();
+    }
+}
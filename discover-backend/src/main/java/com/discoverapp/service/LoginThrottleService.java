@@ -0,0 +1,126 @@
+package com.discoverapp.service;
+
+import com.discoverapp.exception.TooManyRequestsException;
+import com.discoverapp.util.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token buckets for authentication attempts: one per client IP, one per (IP, username) pair and one per username.
+ * The IP limit stops a single source from spraying many accounts; the (IP, username) limit stops one
+ * source guessing one account's password. The account limit catches the same guessing spread over many
+ * IPs; it is much larger, so failing logins in someone else's name from a few addresses cannot lock them out.
+ * Only failed logins are charged to the username buckets. Idle buckets are dropped once they would be full again.
+ */
+@Service
+public class LoginThrottleService {
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${auth.throttle.ip.capacity:30}")
+    private long ipCapacity;
+
+    @Value("${auth.throttle.ip.period-seconds:60}")
+    private long ipPeriodSeconds;
+
+    @Value("${auth.throttle.username.capacity:5}")
+    private long usernameCapacity;
+
+    @Value("${auth.throttle.username.period-seconds:300}")
+    private long usernamePeriodSeconds;
+
+    @Value("${auth.throttle.account.capacity:50}")
+    private long accountCapacity;
+
+    @Value("${auth.throttle.account.period-seconds:3600}")
+    private long accountPeriodSeconds;
+
+    private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> usernameBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> accountBuckets = new ConcurrentHashMap<>();
+
+    private Counter ipThrottled;
+    private Counter usernameThrottled;
+    private Counter accountThrottled;
+
+    @PostConstruct
+    public void init() {
+        ipThrottled = Counter.builder("auth.throttled").tag("key", "ip").register(meterRegistry);
+        usernameThrottled = Counter.builder("auth.throttled").tag("key", "username").register(meterRegistry);
+        accountThrottled = Counter.builder("auth.throttled").tag("key", "account").register(meterRegistry);
+    }
+
+    public void checkIp(String ip) {
+        TokenBucket bucket = ipBuckets.computeIfAbsent(ip,
+                k -> new TokenBucket(ipCapacity, ipCapacity, TimeUnit.SECONDS.toNanos(ipPeriodSeconds)));
+        consume(bucket, ipThrottled);
+    }
+
+    // Called before the password check; it costs nothing, so successful logins never use up the budget
+    public void checkUsername(String ip, String username) {
+        if (username == null) {
+            return;
+        }
+        TokenBucket bucket = usernameBuckets.get(usernameKey(ip, username));
+        if (bucket != null) {
+            reject(bucket.peek(1), usernameThrottled);
+        }
+        TokenBucket account = accountBuckets.get(accountKey(username));
+        if (account != null) {
+            reject(account.peek(1), accountThrottled);
+        }
+    }
+
+    public void recordFailedLogin(String ip, String username) {
+        if (username == null) {
+            return;
+        }
+        usernameBuckets.computeIfAbsent(usernameKey(ip, username),
+                k -> new TokenBucket(usernameCapacity, usernameCapacity, TimeUnit.SECONDS.toNanos(usernamePeriodSeconds)))
+                .tryConsume(1);
+        accountBuckets.computeIfAbsent(accountKey(username),
+                k -> new TokenBucket(accountCapacity, accountCapacity, TimeUnit.SECONDS.toNanos(accountPeriodSeconds)))
+                .tryConsume(1);
+    }
+
+    private static String usernameKey(String ip, String username) {
+        return ip + '|' + accountKey(username);
+    }
+
+    private static String accountKey(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private void consume(TokenBucket bucket, Counter throttled) {
+        reject(bucket.tryConsume(1), throttled);
+    }
+
+    private void reject(TokenBucket.Probe probe, Counter throttled) {
+        if (!probe.allowed()) {
+            throttled.increment();
+            throw new TooManyRequestsException("Too many authentication attempts",
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(probe.nanosToWait()) + 1));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.throttle.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        long ipIdle = TimeUnit.SECONDS.toNanos(ipPeriodSeconds);
+        long usernameIdle = TimeUnit.SECONDS.toNanos(usernamePeriodSeconds);
+        ipBuckets.values().removeIf(bucket -> now - bucket.lastUsedNanos() > ipIdle);
+        usernameBuckets.values().removeIf(bucket -> now - bucket.lastUsedNanos() > usernameIdle);
+        long accountIdle = TimeUnit.SECONDS.toNanos(accountPeriodSeconds);
+        accountBuckets.values().removeIf(bucket -> now - bucket.lastUsedNanos() > accountIdle);
+    }
+}
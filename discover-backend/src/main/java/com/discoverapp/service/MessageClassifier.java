@@ -0,0 +1,20 @@
+package com.discoverapp.service;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A moderation stage. Classifiers work on batches so remote implementations can amortise round trips.
+ */
+public interface MessageClassifier {
+
+    /**
+     * @param messages message id -> message text
+     * @return ids of the messages that should be flagged as moderated
+     */
+    Set<Long> flag(Map<Long, String> messages);
+
+    default boolean isEnabled() {
+        return true;
+    }
+}
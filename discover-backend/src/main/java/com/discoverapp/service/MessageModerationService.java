@@ -0,0 +1,150 @@
+package com.discoverapp.service;
+
+import com.discoverapp.repository.MessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background moderation stage. postMessage stores the message as moderation_pending and enqueues its id; a single
+ * worker drains the queue in batches, runs the enabled classifiers in order, flags matches with one bulk update and
+ * clears the pending mark. Ids the queue dropped or lost on restart are re-queued by a periodic sweep.
+ */
+@Slf4j
+@Service
+public class MessageModerationService {
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private List<MessageClassifier> classifiers;
+
+    @Autowired
+    @Qualifier("moderationExecutor")
+    private Executor moderationExecutor;
+
+    @Value("${moderation.batch-size:100}")
+    private int batchSize;
+
+    // Messages pending longer than this are assumed to be out of the queue
+    @Value("${moderation.sweep.min-age-seconds:60}")
+    private long sweepMinAgeSeconds;
+
+    @Value("${moderation.sweep.max-messages:1000}")
+    private int sweepMaxMessages;
+
+    private final BlockingQueue<Long> queue;
+
+    private volatile boolean running;
+
+    public MessageModerationService(@Value("${moderation.queue-capacity:10000}") int queueCapacity) {
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Never blocks the caller. Returns false if the queue is full; the message stays pending for the sweep.
+     */
+    public boolean enqueue(Long messageId) {
+        boolean accepted = queue.offer(messageId);
+        if (!accepted) {
+            log.warn("Moderation queue full, leaving message {} to the sweep", messageId);
+        }
+        return accepted;
+    }
+
+    /**
+     * Re-queues messages still pending after sweepMinAgeSeconds, oldest first. A message that is in fact
+     * still queued gets classified twice, which is harmless.
+     */
+    @Scheduled(fixedDelayString = "${moderation.sweep.interval-ms:60000}")
+    public void sweep() {
+        List<Long> pending = messageRepository.findPendingModerationIds(
+                LocalDateTime.now().minusSeconds(sweepMinAgeSeconds), PageRequest.of(0, sweepMaxMessages));
+        int queued = 0;
+        for (Long messageId : pending) {
+            if (!queue.offer(messageId)) {
+                break;
+            }
+            queued++;
+        }
+        if (!pending.isEmpty()) {
+            log.info("Moderation sweep re-queued {} of {} pending messages", queued, pending.size());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        moderationExecutor.execute(this::drainLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    private void drainLoop() {
+        while (running) {
+            try {
+                Long first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<Long> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                moderate(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Moderation batch failed", e);
+            }
+        }
+    }
+
+    void moderate(List<Long> messageIds) {
+        Map<Long, String> remaining = new LinkedHashMap<>();
+        for (Object[] row : messageRepository.findContentByIdIn(messageIds)) {
+            remaining.put((Long) row[0], (String) row[1]);
+        }
+
+        Set<Long> flagged = new HashSet<>();
+        for (MessageClassifier classifier : classifiers) {
+            if (remaining.isEmpty()) {
+                break;
+            }
+            if (!classifier.isEnabled()) {
+                continue;
+            }
+            Set<Long> hits = classifier.flag(remaining);
+            flagged.addAll(hits);
+            // Later (more expensive) stages only see what earlier ones let through
+            remaining.keySet().removeAll(hits);
+        }
+
+        if (!flagged.isEmpty()) {
+            messageRepository.markModerated(flagged);
+        }
+        messageRepository.clearModerationPending(messageIds);
+    }
+}
@@ -0,0 +1,81 @@
+package com.discoverapp.service;
+
+import com.discoverapp.repository.ArchivedMessageRepository;
+import com.discoverapp.repository.ChannelRepository;
+import com.discoverapp.repository.MessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves channel messages past their retention window from the hot message table into message_archive.
+ * Each chunk is copied, detached from replies and deleted in one transaction, so a message is always
+ * in exactly one of the two tables.
+ */
+@Slf4j
+@Service
+public class MessageRetentionService {
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ArchivedMessageRepository archivedMessageRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${channel.retention.default-days:0}")
+    private int defaultRetentionDays;
+
+    @Value("${channel.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${channel.retention.cron:0 30 3 * * *}")
+    public void archiveExpiredMessages() {
+        for (Object[] policy : channelRepository.findAllRetentionPolicies()) {
+            Long channelId = (Long) policy[0];
+            Integer retentionDays = (Integer) policy[1];
+            int days = retentionDays != null ? retentionDays : defaultRetentionDays;
+            if (days <= 0) {
+                continue; // channel keeps its history hot
+            }
+            try {
+                archiveChannel(channelId, LocalDateTime.now().minusDays(days));
+            } catch (Exception e) {
+                log.error("Failed to archive messages for channel {}", channelId, e);
+            }
+        }
+    }
+
+    /**
+     * @return number of messages moved to the archive
+     */
+    public long archiveChannel(Long channelId, LocalDateTime cutoff) {
+        long moved = 0;
+        while (true) {
+            List<Long> ids = messageRepository.findIdsOlderThan(channelId, cutoff, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                return moved;
+            }
+            Integer deleted = transactionTemplate.execute(status -> {
+                archivedMessageRepository.copyFromMessages(ids);
+                messageRepository.detachFromParents(ids);
+                return messageRepository.deleteByIdIn(ids);
+            });
+            moved += deleted != null ? deleted : 0;
+            if (ids.size() < chunkSize) {
+                return moved;
+            }
+        }
+    }
+}
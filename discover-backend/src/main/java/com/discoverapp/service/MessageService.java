@@ -2,16 +2,22 @@ package com.discoverapp.service;
 
 import com.discoverapp.dto.CreateMessageRequest;
 import com.discoverapp.dto.MessageDto;
+import com.discoverapp.entity.ArchivedMessage;
 import com.discoverapp.entity.Channel;
 import com.discoverapp.entity.Message;
 import com.discoverapp.entity.User;
+import com.discoverapp.repository.ArchivedMessageRepository;
 import com.discoverapp.repository.ChannelRepository;
 import com.discoverapp.repository.MessageRepository;
 import com.discoverapp.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -21,9 +27,19 @@ public class MessageService {
     @Autowired
     private MessageRepository messageRepository;
     @Autowired
+    private ArchivedMessageRepository archivedMessageRepository;
+    @Autowired
     private ChannelRepository channelRepository;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private UnreadCounterService unreadCounterService;
+    @Autowired
+    private MessageModerationService messageModerationService;
+    @Autowired
+    private ContentFilterService contentFilterService;
+    @Autowired
+    private ReplicaLagService replicaLagService;
 
     public MessageDto postMessage(String username, Long channelId, CreateMessageRequest request) {
         Optional<User> userOpt = userRepository.findByUsername(username);
@@ -42,23 +58,53 @@ public class MessageService {
                     .orElseThrow(() -> new IllegalArgumentException("Parent message not found with ID: " + request.getParentMessageId()));
         }
 
+        // Obvious matches are caught inline with one linear scan; everything else goes through the async pipeline
+        boolean blocked = contentFilterService.isBlocked(request.getContent());
+
         Message message = Message.builder()
                 .channel(channelOpt.get())
                 .user(userOpt.get())
                 .content(request.getContent())
                 .parentMessage(parentMessage)
                 .createdAt(LocalDateTime.now())
-                .moderated(false)
+                .moderated(blocked)
+                .moderationPending(!blocked)
                 .build();
         messageRepository.save(message);
+        // The author's next history read must include this message, even if the replica hasn't applied it yet
+        replicaLagService.markWrite(username);
+
+        long messageCount = unreadCounterService.recordMessage(channelId);
+        // The author has obviously read their own message
+        unreadCounterService.markPosted(userOpt.get().getId(), channelId, message.getId(), messageCount);
+        // Moderation runs in the background; the message is stored unflagged until it has been classified
+        if (!blocked) {
+            messageModerationService.enqueue(message.getId());
+        }
         return toDto(message);
     }
 
-    public List<MessageDto> listMessages(Long channelId) {
-        return messageRepository.findAll().stream()
-                .filter(m -> m.getChannel() != null && m.getChannel().getId().equals(channelId))
+    /**
+     * Returns up to `limit` messages older than `beforeId` (or the latest ones when beforeId is null),
+     * in chronological order. The hot table is read first; if it runs out, the page is filled
+     * from the archive, so callers page through the full history without knowing where it lives.
+     */
+    @Transactional(readOnly = true)
+    public List<MessageDto> listMessages(Long channelId, Long beforeId, int limit) {
+        long cursor = beforeId != null ? beforeId : Long.MAX_VALUE;
+
+        List<MessageDto> page = messageRepository.findPageBefore(channelId, cursor, PageRequest.of(0, limit)).stream()
                 .map(this::toDto)
-                .collect(Collectors.toList());
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        if (page.size() < limit) {
+            long archiveCursor = page.isEmpty() ? cursor : page.get(page.size() - 1).getId();
+            archivedMessageRepository.findPageBefore(channelId, archiveCursor, PageRequest.of(0, limit - page.size()))
+                    .forEach(row -> page.add(toDto((ArchivedMessage) row[0], (String) row[1])));
+        }
+
+        Collections.reverse(page);
+        return page;
     }
 
     private MessageDto toDto(Message message) {
@@ -68,9 +114,23 @@ public class MessageService {
         dto.setUserId(message.getUser() != null ? message.getUser().getId() : null);
         dto.setUsername(message.getUser() != null ? message.getUser().getUsername() : null);
         dto.setContent(message.getContent());
-        dto.setParentMessageId(message.getParentMessage() != null ? message.getParentMessage().getId() : null);
+        dto.setParentMessageId(message.getParentMessage() != null ? message.getParentMessage().getId() : message.getArchivedParentId());
+        dto.setCreatedAt(message.getCreatedAt());
+        dto.setModerated(message.isModerated());
+        return dto;
+    }
+
+    private MessageDto toDto(ArchivedMessage message, String username) {
+        MessageDto dto = new MessageDto();
+        dto.setId(message.getId());
+        dto.setChannelId(message.getChannelId());
+        dto.setUserId(message.getUserId());
+        dto.setUsername(username);
+        dto.setContent(message.getContent());
+        dto.setParentMessageId(message.getParentMessageId());
         dto.setCreatedAt(message.getCreatedAt());
         dto.setModerated(message.isModerated());
+        dto.setArchived(true);
         return dto;
     }
-} 
\ No newline at end of file
+}
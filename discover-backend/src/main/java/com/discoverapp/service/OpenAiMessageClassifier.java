@@ -0,0 +1,53 @@
+package com.discoverapp.service;
+
+import com.discoverapp.external.OpenAiClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Optional second-pass classifier backed by the OpenAI moderation endpoint.
+ * Only sees messages the cheaper local stages did not already flag.
+ */
+@Service
+@Order(2)
+public class OpenAiMessageClassifier implements MessageClassifier {
+    @Autowired
+    private OpenAiClient openAiClient;
+
+    @Value("${moderation.openai.enabled:false}")
+    private boolean enabled;
+
+    @Override
+    public Set<Long> flag(Map<Long, String> messages) {
+        List<Long> ids = new ArrayList<>(messages.keySet());
+        List<String> texts = ids.stream()
+                .map(id -> messages.get(id) != null ? messages.get(id) : "")
+                .toList();
+
+        List<Boolean> results = openAiClient.moderate(texts);
+        if (results.size() != ids.size()) {
+            // The call failed (OpenAiClient logged why); the batch stays pending and the sweep retries it
+            throw new IllegalStateException("OpenAI moderation unavailable for " + ids.size() + " messages");
+        }
+        Set<Long> flagged = new HashSet<>();
+        for (int i = 0; i < results.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                flagged.add(ids.get(i));
+            }
+        }
+        return flagged;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
@@ -0,0 +1,71 @@
+package com.discoverapp.service;
+
+import com.discoverapp.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs BCrypt on the bounded passwordHashExecutor instead of request threads.
+ * Returns futures so the servlet thread is released while the hash is computed.
+ *
+ * Metrics: auth.password.hash{result=completed|rejected}, auth.password.hash.time, auth.password.hash.queue.
+ */
+@Service
+public class PasswordHashService {
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    @Qualifier("passwordHashExecutor")
+    private ThreadPoolTaskExecutor passwordHashExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter completed;
+    private Counter rejected;
+    private Timer hashTimer;
+
+    @PostConstruct
+    public void init() {
+        completed = Counter.builder("auth.password.hash").tag("result", "completed").register(meterRegistry);
+        rejected = Counter.builder("auth.password.hash").tag("result", "rejected").register(meterRegistry);
+        hashTimer = Timer.builder("auth.password.hash.time").register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue", passwordHashExecutor,
+                executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    private <T> CompletableFuture<T> submit(Callable<T> task) {
+        try {
+            return passwordHashExecutor.submitCompletable(() -> {
+                T result = hashTimer.recordCallable(task);
+                completed.increment();
+                return result;
+            });
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            throw new TooManyRequestsException("Too many login attempts in progress, try again shortly", 1);
+        }
+    }
+}
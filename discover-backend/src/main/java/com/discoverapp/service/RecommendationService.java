@@ -48,8 +48,8 @@ public class RecommendationService {
             }
             ContentDto dtoItem = found.get(0);
             // Check if exists in DB by externalId and type
-            boolean exists = contentService.contentRepository.findAll().stream()
-                .anyMatch(c -> c.getExternalId() != null && c.getExternalId().equals(dtoItem.getExternalId()) && c.getType() == type);
+            boolean exists = dtoItem.getExternalId() != null
+                    && contentService.contentRepository.existsByExternalIdAndType(dtoItem.getExternalId(), type);
             if (!exists) {
                 contentService.contentRepository.save(contentService.fromDto(dtoItem));
             }
@@ -0,0 +1,103 @@
+package com.discoverapp.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides whether read-only work may use the replica. Reads stay on the primary while the replica is
+ * further behind than max-lag-ms (or unreachable), and for a short window after a user's own write, so
+ * they see what they just posted. Without a configured replica every method is a no-op.
+ */
+@Slf4j
+@Service
+public class ReplicaLagService {
+    // Replay lag in ms; 0 when the replica has applied everything it received or is not a standby at all
+    private static final String LAG_QUERY =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)::bigint END";
+
+    @Autowired(required = false)
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Value("${spring.datasource.replica.read-your-writes-ms:2000}")
+    private long readYourWritesMs;
+
+    @Value("${spring.datasource.replica.max-lag-ms:5000}")
+    private long maxLagMs;
+
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    private volatile long lagMs;
+
+    public boolean isEnabled() {
+        return replicaDataSource != null;
+    }
+
+    /**
+     * Keeps the user's reads on the primary until the replica has certainly caught up with this write.
+     */
+    public void markWrite(String username) {
+        if (!isEnabled() || username == null) {
+            return;
+        }
+        long lag = Math.min(lagMs, maxLagMs);
+        pinnedUntil.put(username, System.currentTimeMillis() + readYourWritesMs + lag);
+    }
+
+    /**
+     * markWrite for the user authenticated on the current request, for writes that are not handed a username.
+     */
+    public void markWrite() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null) {
+            markWrite(authentication.getName());
+        }
+    }
+
+    /**
+     * @return true if the current read-only transaction may be served by the replica
+     */
+    public boolean canReadFromReplica() {
+        if (!isEnabled() || lagMs > maxLagMs) {
+            return false;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return true;
+        }
+        Long until = pinnedUntil.get(authentication.getName());
+        return until == null || until <= System.currentTimeMillis();
+    }
+
+    public long getLagMs() {
+        return lagMs;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-interval-ms:1000}")
+    public void checkLag() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            Long lag = new JdbcTemplate(replicaDataSource).queryForObject(LAG_QUERY, Long.class);
+            lagMs = lag != null ? lag : 0;
+        } catch (Exception e) {
+            lagMs = Long.MAX_VALUE; // replica unreachable: route everything to the primary
+            log.warn("Replica lag check failed, reading from the primary: {}", e.getMessage());
+        }
+        long now = System.currentTimeMillis();
+        pinnedUntil.values().removeIf(until -> until <= now);
+    }
+}
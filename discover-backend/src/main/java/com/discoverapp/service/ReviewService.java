@@ -2,16 +2,28 @@ package com.discoverapp.service;
 
 import com.discoverapp.dto.CreateReviewRequest;
 import com.discoverapp.dto.ReviewDto;
+import com.discoverapp.dto.ReviewPageDto;
 import com.discoverapp.entity.Content;
 import com.discoverapp.entity.Review;
 import com.discoverapp.entity.User;
+import com.discoverapp.entity.ContentRatingAggregate;
+import com.discoverapp.repository.ContentRatingAggregateRepository;
 import com.discoverapp.repository.ContentRepository;
 import com.discoverapp.repository.ReviewRepository;
+import com.discoverapp.repository.ReviewVoteRepository;
 import com.discoverapp.repository.UserRepository;
+import com.discoverapp.types.ReviewSort;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -24,11 +36,29 @@ public class ReviewService {
     private UserRepository userRepository;
     @Autowired
     private ContentRepository contentRepository;
+    @Autowired
+    private ContentFilterService contentFilterService;
+    @Autowired
+    private ContentRatingAggregateRepository ratingAggregateRepository;
+    @Autowired
+    private ReviewVoteRepository reviewVoteRepository;
+    @Autowired
+    private TopReviewsCache topReviewsCache;
+    @Autowired
+    private ReplicaLagService replicaLagService;
+
+    @Value("${reviews.page-size:20}")
+    private int defaultPageSize;
 
+    // The review and its contribution to the content's aggregate commit together
+    @Transactional
     public ReviewDto addReview(String username, CreateReviewRequest dto) {
         Optional<User> userOpt = userRepository.findByUsername(username);
         Optional<Content> contentOpt = contentRepository.findById(dto.getMovieId());
         if (userOpt.isEmpty() || contentOpt.isEmpty()) return null;
+        if (contentFilterService.isBlocked(dto.getReviewText())) {
+            throw new IllegalArgumentException("Review contains blocked words");
+        }
         Review review = Review.builder()
                 .user(userOpt.get())
                 .content(contentOpt.get())
@@ -37,14 +67,132 @@ public class ReviewService {
                 .createdAt(LocalDateTime.now())
                 .build();
         reviewRepository.save(review);
+        applyToAggregate(review, 1);
+        topReviewsCache.evictAfterCommit(contentOpt.get().getId());
+        replicaLagService.markWrite(username);
         return toDto(review);
     }
 
-    public List<ReviewDto> listReviews(Long contentId) {
-        return reviewRepository.findAll().stream()
-                .filter(r -> r.getContent() != null && r.getContent().getId().equals(contentId))
+    @Transactional
+    public void deleteReview(Long reviewId) {
+        reviewRepository.findById(reviewId).ifPresent(review -> {
+            reviewVoteRepository.deleteByReviewId(reviewId);
+            reviewRepository.delete(review);
+            applyToAggregate(review, -1);
+            if (review.getContent() != null) {
+                topReviewsCache.evictAfterCommit(review.getContent().getId());
+            }
+            replicaLagService.markWrite();
+        });
+    }
+
+    /**
+     * Marks a review as helpful. Voting twice is a no-op.
+     * @return true if the vote was counted
+     */
+    @Transactional
+    public boolean voteHelpful(String username, Long reviewId) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new IllegalArgumentException("Review not found: " + reviewId));
+        if (review.getUser() != null && user.getId().equals(review.getUser().getId())) {
+            throw new IllegalArgumentException("Cannot vote for your own review");
+        }
+        if (reviewVoteRepository.insertIfAbsent(reviewId, user.getId()) == 0) {
+            return false;
+        }
+        reviewRepository.incrementHelpfulCount(reviewId);
+        if (review.getContent() != null) {
+            topReviewsCache.evictAfterCommit(review.getContent().getId());
+        }
+        replicaLagService.markWrite(username);
+        return true;
+    }
+
+    /**
+     * One keyset page of a content's reviews. The first page at the default size is served from the top-reviews cache.
+     * @param cursor nextCursor of the previous page, or null for the first page
+     */
+    @Transactional(readOnly = true)
+    public ReviewPageDto listReviews(Long contentId, ReviewSort sort, String cursor, Integer limit) {
+        int size = limit != null ? Math.min(Math.max(limit, 1), 100) : defaultPageSize;
+        if (cursor == null && size == defaultPageSize) {
+            return topReviewsCache.get(contentId, sort, () -> loadPage(contentId, sort, null, size));
+        }
+        return loadPage(contentId, sort, cursor, size);
+    }
+
+    private ReviewPageDto loadPage(Long contentId, ReviewSort sort, String cursor, int size) {
+        // One extra row tells us whether there is a next page
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<Review> rows;
+        if (cursor == null) {
+            rows = switch (sort) {
+                case NEWEST -> reviewRepository.findNewest(contentId, pageable);
+                case HIGHEST -> reviewRepository.findHighest(contentId, pageable);
+                case HELPFUL -> reviewRepository.findMostHelpful(contentId, pageable);
+            };
+        } else {
+            String[] parts = decodeCursor(cursor, sort);
+            Long afterId = Long.valueOf(parts[2]);
+            rows = switch (sort) {
+                case NEWEST -> reviewRepository.findNewestAfter(contentId, parseCreatedAt(parts[1]), afterId, pageable);
+                case HIGHEST -> reviewRepository.findHighestAfter(contentId, Double.valueOf(parts[1]), afterId, pageable);
+                case HELPFUL -> reviewRepository.findMostHelpfulAfter(contentId, Integer.parseInt(parts[1]), afterId, pageable);
+            };
+        }
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            nextCursor = encodeCursor(sort, rows.get(size - 1));
+        }
+        List<ReviewDto> reviews = rows.stream()
                 .map(this::toDto)
                 .collect(Collectors.toList());
+        return new ReviewPageDto(reviews, nextCursor);
+    }
+
+    private LocalDateTime parseCreatedAt(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + e.getMessage());
+        }
+    }
+
+    private String encodeCursor(ReviewSort sort, Review last) {
+        String key = switch (sort) {
+            case NEWEST -> last.getCreatedAt().toString();
+            case HIGHEST -> last.getRating().toString();
+            case HELPFUL -> String.valueOf(last.getHelpfulCount());
+        };
+        String raw = sort.name() + "|" + key + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor, ReviewSort sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !sort.name().equals(parts[0])) {
+                throw new IllegalArgumentException("Cursor does not match sort " + sort);
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + e.getMessage());
+        }
+    }
+
+    // Reviews without a rating don't count towards the aggregate
+    private void applyToAggregate(Review review, int delta) {
+        if (review.getRating() == null || review.getContent() == null) {
+            return;
+        }
+        double rating = review.getRating();
+        int bucket = (int) Math.max(0, Math.min(ContentRatingAggregate.BUCKETS - 1, Math.round(rating)));
+        ratingAggregateRepository.applyDelta(review.getContent().getId(), delta, delta * rating, bucket + 1);
     }
 
     private ReviewDto toDto(Review review) {
@@ -55,6 +203,7 @@ public class ReviewService {
         dto.setRating(review.getRating());
         dto.setReviewText(review.getReviewText());
         dto.setCreatedAt(review.getCreatedAt());
+        dto.setHelpfulCount(review.getHelpfulCount());
         return dto;
     }
 } 
\ No newline at end of file
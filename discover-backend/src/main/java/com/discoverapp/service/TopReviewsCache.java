@@ -0,0 +1,75 @@
+package com.discoverapp.service;
+
+import com.discoverapp.dto.ReviewPageDto;
+import com.discoverapp.types.ReviewSort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches the first page of each review feed per content, which is what nearly every request asks for.
+ * Entries are evicted after the transaction that adds, deletes or votes on a review commits.
+ */
+@Component
+public class TopReviewsCache {
+    private record Key(Long contentId, ReviewSort sort) {}
+
+    private final Map<Key, ReviewPageDto> pages;
+
+    // Bumped on every eviction; a load that started before it does not get cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public TopReviewsCache(@Value("${reviews.top-cache.max-entries:2000}") int maxEntries) {
+        this.pages = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, ReviewPageDto> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public ReviewPageDto get(Long contentId, ReviewSort sort, Supplier<ReviewPageDto> loader) {
+        Key key = new Key(contentId, sort);
+        ReviewPageDto cached = pages.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long startedAt = generation.get();
+        ReviewPageDto loaded = loader.get();
+        synchronized (pages) {
+            if (generation.get() == startedAt) {
+                pages.put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public void evictAfterCommit(Long contentId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(contentId);
+                }
+            });
+        } else {
+            evict(contentId);
+        }
+    }
+
+    private void evict(Long contentId) {
+        synchronized (pages) {
+            generation.incrementAndGet();
+            for (ReviewSort sort : ReviewSort.values()) {
+                pages.remove(new Key(contentId, sort));
+            }
+        }
+    }
+}
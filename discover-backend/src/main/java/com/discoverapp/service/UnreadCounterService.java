@@ -0,0 +1,170 @@
+package com.discoverapp.service;
+
+import com.discoverapp.repository.ChannelMessageCountRepository;
+import com.discoverapp.repository.ChannelReadStateRepository;
+import com.discoverapp.repository.MessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps per-channel message counters in memory and per-user read cursors in Postgres.
+ * Posting a message only bumps a striped counter; the accumulated deltas are written to
+ * channel_message_count by a periodic flush, so the post path never contends on a counter row. The counter
+ * lives in its own table rather than on channel so that the flush does not invalidate the cached Channel entities.
+ */
+@Slf4j
+@Service
+public class UnreadCounterService {
+    @Autowired
+    private ChannelMessageCountRepository channelMessageCountRepository;
+
+    @Autowired
+    private ChannelReadStateRepository channelReadStateRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    private final Map<Long, ChannelCounter> counters = new ConcurrentHashMap<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /**
+     * Counts a new message and returns the channel's message count including it.
+     */
+    public long recordMessage(Long channelId) {
+        ChannelCounter counter = counters.computeIfAbsent(channelId, this::loadCounter);
+        counter.posted.increment();
+        return counter.total();
+    }
+
+    /**
+     * Current message count for the channel: persistedCount, the value already read from channel_message_count,
+     * plus what this node has counted but not flushed yet. Other nodes' flushes arrive through persistedCount.
+     */
+    public long currentCount(Long channelId, long persistedCount) {
+        ChannelCounter counter = counters.get(channelId);
+        return counter != null ? persistedCount + counter.pending() : persistedCount;
+    }
+
+    public long currentCount(Long channelId) {
+        return currentCount(channelId, channelMessageCountRepository.findMessageCount(channelId).orElse(0L));
+    }
+
+    /**
+     * Puts the author's cursor on the message they just posted. messageCount is the count including that
+     * message, as returned by recordMessage, so no lookups are needed.
+     */
+    public void markPosted(Long userId, Long channelId, Long messageId, long messageCount) {
+        channelReadStateRepository.upsertCursor(userId, channelId, messageId, messageCount);
+    }
+
+    /**
+     * Moves the user's cursor to the given message, or to the latest message when lastReadMessageId is null.
+     */
+    public void markRead(Long userId, Long channelId, Long lastReadMessageId) {
+        Long latest = messageRepository.findLatestMessageId(channelId);
+        if (latest == null) {
+            return; // nothing to read yet
+        }
+
+        long total = currentCount(channelId);
+        long readCount;
+        Long cursor;
+        if (lastReadMessageId == null || lastReadMessageId >= latest) {
+            cursor = latest;
+            readCount = total;
+        } else {
+            cursor = lastReadMessageId;
+            readCount = Math.max(0, total - messageRepository.countByChannelIdAndIdGreaterThan(channelId, cursor));
+        }
+        channelReadStateRepository.upsertCursor(userId, channelId, cursor, readCount);
+    }
+
+    public void forget(Long channelId) {
+        counters.remove(channelId);
+    }
+
+    @Scheduled(fixedDelayString = "${channel.unread.flush-interval-ms:5000}")
+    public void flush() {
+        // A lock rather than synchronized: the body does JDBC I/O, which would pin a virtual thread's carrier
+        flushLock.lock();
+        try {
+            flushCounters();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // Writes each pending delta, then re-reads every tracked count in one query so increments flushed by other
+    // nodes reach this node's totals too, including channels nobody posted to here since the last run
+    private void flushCounters() {
+        if (counters.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> flushedPosted = new HashMap<>();
+        counters.forEach((channelId, counter) -> {
+            long posted = counter.posted.sum();
+            long delta = posted - counter.flushed.posted();
+            if (delta <= 0) {
+                return;
+            }
+            try {
+                channelMessageCountRepository.incrementMessageCount(channelId, delta);
+                flushedPosted.put(channelId, posted);
+            } catch (Exception e) {
+                // Keep the old snapshot so the delta is retried on the next run
+                log.warn("Failed to flush message count for channel {}: {}", channelId, e.getMessage());
+            }
+        });
+
+        Map<Long, Long> persisted = new HashMap<>();
+        channelMessageCountRepository.findAllById(counters.keySet())
+                .forEach(count -> persisted.put(count.getChannelId(), count.getMessageCount()));
+        counters.forEach((channelId, counter) -> {
+            Snapshot previous = counter.flushed;
+            long posted = flushedPosted.getOrDefault(channelId, previous.posted());
+            counter.flushed = new Snapshot(persisted.getOrDefault(channelId, previous.persisted()), posted);
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private ChannelCounter loadCounter(Long channelId) {
+        return new ChannelCounter(channelMessageCountRepository.findMessageCount(channelId).orElse(0L));
+    }
+
+    // posted only ever grows; flushed says how much of it is already in channel_message_count, and what that
+    // count was right after the flush. Both halves change together, so readers never count a delta twice.
+    private static class ChannelCounter {
+        final LongAdder posted = new LongAdder();
+        volatile Snapshot flushed;
+
+        ChannelCounter(long persisted) {
+            this.flushed = new Snapshot(persisted, 0);
+        }
+
+        long pending() {
+            return posted.sum() - flushed.posted();
+        }
+
+        long total() {
+            Snapshot snapshot = flushed;
+            return snapshot.persisted() + posted.sum() - snapshot.posted();
+        }
+    }
+
+    private record Snapshot(long persisted, long posted) {
+    }
+}
@@ -13,6 +13,8 @@ import java.util.Optional;
 public class UserService {
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private ReplicaLagService replicaLagService;
 
     @Transactional(readOnly = true)
     public UserProfileDto getUserProfile(Long userId) {
@@ -43,6 +45,7 @@ public class UserService {
         }
         
         userRepository.save(user);
+        replicaLagService.markWrite();
         return toDto(user);
     }
 
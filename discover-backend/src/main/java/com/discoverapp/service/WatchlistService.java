@@ -1,8 +1,12 @@
 package com.discoverapp.service;
 
 import com.discoverapp.dto.AddToWatchListRequest;
+import com.discoverapp.dto.BulkWatchlistOperation;
+import com.discoverapp.dto.BulkWatchlistRequest;
+import com.discoverapp.dto.BulkWatchlistResult;
 import com.discoverapp.dto.ContentDto;
 import com.discoverapp.dto.UpdateWatchListItem;
+import com.discoverapp.dto.WatchlistCardRow;
 import com.discoverapp.dto.WatchlistItemDto;
 import com.discoverapp.entity.Content;
 import com.discoverapp.entity.User;
@@ -10,62 +14,124 @@ import com.discoverapp.entity.WatchlistItem;
 import com.discoverapp.repository.ContentRepository;
 import com.discoverapp.repository.UserRepository;
 import com.discoverapp.repository.WatchlistItemRepository;
-import com.discoverapp.types.ContentType;
 import com.discoverapp.types.WatchListItemStatus;
+import com.discoverapp.types.WatchlistBulkAction;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @Transactional
 public class WatchlistService {
+    private static final int MAX_BULK_OPERATIONS = 500;
+
     @Autowired
     private WatchlistItemRepository watchlistItemRepository;
     @Autowired
     private UserRepository userRepository;
     @Autowired
     private ContentRepository contentRepository;
+    @Autowired
+    private ReplicaLagService replicaLagService;
 
     public WatchlistItemDto addWatchlistItem(String username, AddToWatchListRequest dto) {
-        System.out.println("Adding watchlist item for user: " + username + ", movieId: " + dto.getMovieId());
-        
         Optional<User> userOpt = userRepository.findByUsername(username);
         if (userOpt.isEmpty()) {
-            System.out.println("User not found: " + username);
             throw new IllegalArgumentException("User not found: " + username);
         }
         
         Optional<Content> contentOpt = contentRepository.findById(dto.getMovieId());
         if (contentOpt.isEmpty()) {
-            System.out.println("Content not found with ID: " + dto.getMovieId());
             throw new IllegalArgumentException("Content not found with ID: " + dto.getMovieId());
         }
         
         User user = userOpt.get();
         Content content = contentOpt.get();
         
-        System.out.println("Found user: " + user.getUsername() + " (ID: " + user.getId() + ")");
-        System.out.println("Found content: " + content.getTitle() + " (ID: " + content.getId() + ")");
-        
-        WatchlistItem item = WatchlistItem.builder()
-                .user(user)
-                .content(content)
-                .status(WatchListItemStatus.valueOf(dto.getStatus()))
-                .addedAt(LocalDateTime.now())
-                .build();
+        // Adding the same content twice just updates the existing entry
+        WatchlistItem item = watchlistItemRepository.findByUserIdAndContentId(user.getId(), content.getId())
+                .orElseGet(() -> WatchlistItem.builder()
+                        .user(user)
+                        .content(content)
+                        .build());
+        item.setStatus(WatchListItemStatus.valueOf(dto.getStatus()));
+        item.setAddedAt(LocalDateTime.now());
         
         WatchlistItem savedItem = watchlistItemRepository.save(item);
-        System.out.println("Saved watchlist item with ID: " + savedItem.getId());
+        replicaLagService.markWrite(username);
+        log.debug("Watchlist item {} saved for {} (content {})", savedItem.getId(), username, content.getId());
         
         return toDto(savedItem);
     }
 
+    /**
+     * Applies up to MAX_BULK_OPERATIONS add/update/remove operations in one transaction.
+     * Operations are idempotent: if the same content appears more than once, the last operation wins,
+     * and ADD on an existing entry updates its status instead of inserting a duplicate.
+     * Each action/status group is executed as a single set-based statement.
+     */
+    public BulkWatchlistResult applyBulk(String username, BulkWatchlistRequest request) {
+        List<BulkWatchlistOperation> operations = request.getOperations() != null ? request.getOperations() : List.of();
+        if (operations.size() > MAX_BULK_OPERATIONS) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_OPERATIONS + " operations per request");
+        }
+
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+
+        Map<Long, BulkWatchlistOperation> lastByContent = new LinkedHashMap<>();
+        for (BulkWatchlistOperation op : operations) {
+            if (op.getAction() == null || op.getMovieId() == null) {
+                throw new IllegalArgumentException("Each operation needs an action and a movieId");
+            }
+            if (op.getAction() != WatchlistBulkAction.REMOVE) {
+                if (op.getStatus() == null) {
+                    throw new IllegalArgumentException("Status is required for " + op.getAction() + " of movieId " + op.getMovieId());
+                }
+                WatchListItemStatus.valueOf(op.getStatus()); // fail fast on unknown statuses
+            }
+            lastByContent.put(op.getMovieId(), op);
+        }
+
+        BulkWatchlistResult result = new BulkWatchlistResult();
+        if (lastByContent.isEmpty()) {
+            return result;
+        }
+
+        Set<Long> known = new HashSet<>(contentRepository.findExistingIds(lastByContent.keySet()));
+        lastByContent.keySet().stream()
+                .filter(id -> !known.contains(id))
+                .forEach(result.getUnknownContentIds()::add);
+
+        Map<WatchlistBulkAction, Map<String, List<Long>>> grouped = lastByContent.values().stream()
+                .filter(op -> known.contains(op.getMovieId()))
+                .collect(Collectors.groupingBy(BulkWatchlistOperation::getAction,
+                        Collectors.groupingBy(op -> op.getStatus() != null ? op.getStatus() : "",
+                                Collectors.mapping(BulkWatchlistOperation::getMovieId, Collectors.toList()))));
+
+        grouped.getOrDefault(WatchlistBulkAction.ADD, Map.of()).forEach((status, ids) ->
+                result.setUpserted(result.getUpserted() + watchlistItemRepository.upsertAll(user.getId(), ids, status)));
+        grouped.getOrDefault(WatchlistBulkAction.UPDATE, Map.of()).forEach((status, ids) ->
+                result.setUpdated(result.getUpdated() + watchlistItemRepository.updateStatusAll(user.getId(), ids, status)));
+        grouped.getOrDefault(WatchlistBulkAction.REMOVE, Map.of()).forEach((status, ids) ->
+                result.setRemoved(result.getRemoved() + watchlistItemRepository.deleteAll(user.getId(), ids)));
+
+        replicaLagService.markWrite(username);
+        return result;
+    }
+
     public WatchlistItemDto updateWatchLIstItem(UpdateWatchListItem dto) {
         Optional<WatchlistItem> watchlistItemOpt = watchlistItemRepository.findById(dto.getId());
         if (watchlistItemOpt.isEmpty()) return null;
@@ -75,49 +141,46 @@ public class WatchlistService {
         item.setAddedAt(LocalDateTime.now());
 
         watchlistItemRepository.save(item);
+        replicaLagService.markWrite();
         return toDto(item);
     }
 
     public void removeWatchlistItem(Long id) {
         watchlistItemRepository.deleteById(id);
+        replicaLagService.markWrite();
     }
 
-    public List<WatchlistItemDto> getUserWatchlistByUsername(String username) {
+    @Transactional(readOnly = true)
+    public List<WatchlistItemDto> getUserWatchlistByUsername(String username, WatchListItemStatus status, Pageable pageable) {
         Optional<User> userOpt = userRepository.findByUsername(username);
         if (userOpt.isEmpty()) {
             throw new IllegalArgumentException("User not found: " + username);
         }
-        
-        try {
-            // Try the optimized query first
-            return watchlistItemRepository.findByUserIdWithContent(userOpt.get().getId())
-                    .stream()
-                    .map(this::toDto)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            // Fallback to query without LOB fields
-            System.out.println("Falling back to LOB-free query due to: " + e.getMessage());
-            return watchlistItemRepository.findByUserIdWithoutLob(userOpt.get().getId())
-                    .stream()
-                    .map(this::toDtoFromObjectArray)
-                    .collect(Collectors.toList());
-        }
+        return listWatchlistItems(userOpt.get().getId(), status, pageable);
     }
 
-    public List<WatchlistItemDto> listWatchlistItems(Long userId) {
-        try {
-            return watchlistItemRepository.findByUserIdWithContent(userId)
-                    .stream()
-                    .map(this::toDto)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            // Fallback to query without LOB fields
-            System.out.println("Falling back to LOB-free query due to: " + e.getMessage());
-            return watchlistItemRepository.findByUserIdWithoutLob(userId)
-                    .stream()
-                    .map(this::toDtoFromObjectArray)
-                    .collect(Collectors.toList());
+    /**
+     * Slim read model for watchlist pages: one query for the card fields of the requested page
+     * and one query for the genres of exactly those items, regardless of page size.
+     */
+    @Transactional(readOnly = true)
+    public List<WatchlistItemDto> listWatchlistItems(Long userId, WatchListItemStatus status, Pageable pageable) {
+        List<WatchlistCardRow> rows = status != null
+                ? watchlistItemRepository.findCardsByUserIdAndStatus(userId, status, pageable)
+                : watchlistItemRepository.findCardsByUserId(userId, pageable);
+        if (rows.isEmpty()) {
+            return List.of();
         }
+
+        Set<Long> contentIds = rows.stream()
+                .map(WatchlistCardRow::getContentId)
+                .collect(Collectors.toSet());
+        Map<Long, List<Object[]>> genresByContent = contentRepository.findGenresByContentIds(contentIds).stream()
+                .collect(Collectors.groupingBy(row -> (Long) row[0]));
+
+        return rows.stream()
+                .map(row -> toDto(userId, row, genresByContent.getOrDefault(row.getContentId(), List.of())))
+                .collect(Collectors.toList());
     }
 
     private WatchlistItemDto toDto(WatchlistItem item) {
@@ -176,28 +239,28 @@ public class WatchlistService {
         return dto;
     }
 
-    private WatchlistItemDto toDtoFromObjectArray(Object[] row) {
-        WatchlistItemDto dto = new WatchlistItemDto();
-        
-        // Map the object array to DTO
-        dto.setId((Long) row[0]);
-        dto.setStatus((String) row[1]);
-        dto.setAddedAt((LocalDateTime) row[2]);
-        
-        // Create a minimal ContentDto
+    private WatchlistItemDto toDto(Long userId, WatchlistCardRow row, List<Object[]> genres) {
         ContentDto contentDto = new ContentDto();
-        contentDto.setId((Long) row[3]);
-        contentDto.setTitle((String) row[4]);
-        contentDto.setPosterUrl((String) row[5]);
-        contentDto.setTrailerUrl((String) row[6]);
-        contentDto.setRelease_date((LocalDate) row[7]);
-        contentDto.setRatings((Double) row[8]);
-        contentDto.setType((ContentType) row[9]);
-        contentDto.setExternalId((String) row[10]);
-        
+        contentDto.setId(row.getContentId());
+        contentDto.setTitle(row.getTitle());
+        contentDto.setPosterUrl(row.getPosterUrl());
+        contentDto.setBackdropPath(row.getBackdropPath());
+        contentDto.setTrailerUrl(row.getTrailerUrl());
+        contentDto.setRelease_date(row.getReleaseDate());
+        contentDto.setRatings(row.getRatings());
+        contentDto.setType(row.getType());
+        contentDto.setLabel(row.getLabel());
+        contentDto.setExternalId(row.getExternalId());
+        contentDto.setGenreIds(genres.stream().map(g -> (Long) g[1]).collect(Collectors.toList()));
+        contentDto.setGenreNames(genres.stream().map(g -> (String) g[2]).collect(Collectors.toList()));
+
+        WatchlistItemDto dto = new WatchlistItemDto();
+        dto.setId(row.getId());
+        dto.setUserId(userId);
+        dto.setContentId(row.getContentId());
         dto.setContent(contentDto);
-        dto.setContentId(contentDto.getId());
-        
+        dto.setStatus(String.valueOf(row.getStatus()));
+        dto.setAddedAt(row.getAddedAt());
         return dto;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,334 @@
+package com.discoverapp.service;
+
+import com.discoverapp.dto.ContentDto;
+import com.discoverapp.dto.WatchlistImportResult;
+import com.discoverapp.dto.WatchlistTransferRecord;
+import com.discoverapp.entity.Content;
+import com.discoverapp.entity.User;
+import com.discoverapp.external.JikanClient;
+import com.discoverapp.external.TmdbClient;
+import com.discoverapp.repository.ContentRepository;
+import com.discoverapp.repository.UserRepository;
+import com.discoverapp.repository.WatchlistItemRepository;
+import com.discoverapp.types.ContentType;
+import com.discoverapp.types.WatchListItemStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming watchlist import/export in CSV or NDJSON.
+ * Imports are read line by line and processed in fixed-size batches: each batch resolves its external ids
+ * with one query per content type, fetches only the misses from TMDB/Jikan (throttled per upstream),
+ * and upserts the entries set-based. Exports are written page by page. Neither side holds the whole file in memory.
+ */
+@Service
+public class WatchlistTransferService {
+    public static final String CSV_HEADER = "externalId,type,status,title,addedAt";
+
+    private static final int MAX_REPORTED_ERRORS = 50;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ContentRepository contentRepository;
+    @Autowired
+    private WatchlistItemRepository watchlistItemRepository;
+    @Autowired
+    private ContentService contentService;
+    @Autowired
+    private TmdbClient tmdbClient;
+    @Autowired
+    private JikanClient jikanClient;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private ReplicaLagService replicaLagService;
+
+    @Value("${watchlist.transfer.batch-size:200}")
+    private int batchSize;
+
+    // Upper bound on upstream lookups per import so one huge file can't monopolise the API quotas
+    @Value("${watchlist.transfer.max-upstream-fetches:500}")
+    private int maxUpstreamFetches;
+
+    @Value("${watchlist.transfer.tmdb-interval-ms:50}")
+    private long tmdbIntervalMs;
+
+    @Value("${watchlist.transfer.jikan-interval-ms:400}")
+    private long jikanIntervalMs;
+
+    private final ReentrantLock tmdbLock = new ReentrantLock();
+    private final ReentrantLock jikanLock = new ReentrantLock();
+    private long nextTmdbCall;
+    private long nextJikanCall;
+
+    public WatchlistImportResult importWatchlist(String username, InputStream input, boolean ndjson) throws IOException {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+
+        WatchlistImportResult result = new WatchlistImportResult();
+        List<WatchlistTransferRecord> batch = new ArrayList<>(batchSize);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (!ndjson && lineNumber == 1 && line.startsWith("externalId"))) {
+                continue;
+            }
+            result.setProcessed(result.getProcessed() + 1);
+            try {
+                WatchlistTransferRecord record = ndjson
+                        ? objectMapper.readValue(line, WatchlistTransferRecord.class)
+                        : parseCsv(line);
+                validate(record);
+                batch.add(record);
+            } catch (Exception e) {
+                reportError(result, "Line " + lineNumber + ": " + e.getMessage());
+            }
+            if (batch.size() >= batchSize) {
+                importBatch(user.getId(), batch, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            importBatch(user.getId(), batch, result);
+        }
+        replicaLagService.markWrite(username);
+        return result;
+    }
+
+    public void exportWatchlist(String username, OutputStream output, boolean ndjson) throws IOException {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+
+        Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        if (!ndjson) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long afterId = 0;
+        while (true) {
+            List<Object[]> rows = watchlistItemRepository.findExportRowsAfter(user.getId(), afterId, PageRequest.of(0, batchSize));
+            for (Object[] row : rows) {
+                WatchlistTransferRecord record = new WatchlistTransferRecord();
+                record.setExternalId((String) row[1]);
+                record.setType((ContentType) row[2]);
+                record.setStatus(String.valueOf(row[3]));
+                record.setTitle((String) row[4]);
+                record.setAddedAt((LocalDateTime) row[5]);
+                writer.write(ndjson ? objectMapper.writeValueAsString(record) : toCsv(record));
+                writer.write('\n');
+            }
+            writer.flush();
+            if (rows.size() < batchSize) {
+                return;
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    private void importBatch(Long userId, List<WatchlistTransferRecord> batch, WatchlistImportResult result) {
+        // Resolve against the local catalog: one query per content type present in the batch
+        Map<ContentType, Map<String, Long>> resolved = new HashMap<>();
+        batch.stream()
+                .collect(Collectors.groupingBy(WatchlistTransferRecord::getType,
+                        Collectors.mapping(WatchlistTransferRecord::getExternalId, Collectors.toSet())))
+                .forEach((type, externalIds) -> {
+                    Map<String, Long> ids = new HashMap<>();
+                    contentRepository.findIdsByTypeAndExternalIds(type, externalIds)
+                            .forEach(row -> ids.put((String) row[0], (Long) row[1]));
+                    resolved.put(type, ids);
+                });
+
+        // Only misses go upstream. A content id listed twice keeps its last entry.
+        Map<Long, WatchlistTransferRecord> entries = new LinkedHashMap<>();
+        for (WatchlistTransferRecord record : batch) {
+            Map<String, Long> ids = resolved.get(record.getType());
+            Long contentId = ids.get(record.getExternalId());
+            if (contentId == null) {
+                contentId = fetchFromUpstream(record, result);
+                if (contentId == null) {
+                    result.setUnresolved(result.getUnresolved() + 1);
+                    continue;
+                }
+                ids.put(record.getExternalId(), contentId);
+            }
+            entries.remove(contentId);
+            entries.put(contentId, record);
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Long[] contentIds = entries.keySet().toArray(Long[]::new);
+        String[] statuses = entries.values().stream().map(WatchlistTransferRecord::getStatus).toArray(String[]::new);
+        LocalDateTime[] addedAts = entries.values().stream().map(WatchlistTransferRecord::getAddedAt).toArray(LocalDateTime[]::new);
+        transactionTemplate.executeWithoutResult(status ->
+                result.setImported(result.getImported()
+                        + watchlistItemRepository.upsertEntries(userId, contentIds, statuses, addedAts)));
+    }
+
+    private Long fetchFromUpstream(WatchlistTransferRecord record, WatchlistImportResult result) {
+        if (result.getFetchedFromUpstream() >= maxUpstreamFetches) {
+            return null;
+        }
+        try {
+            ContentDto dto;
+            if (ContentType.ANIME.equals(record.getType())) {
+                throttle(jikanLock, jikanIntervalMs, true);
+                dto = jikanClient.fetchAnimeDetails(record.getExternalId());
+            } else if (ContentType.SERIES.equals(record.getType())) {
+                throttle(tmdbLock, tmdbIntervalMs, false);
+                dto = tmdbClient.fetchSeriesDetails(record.getExternalId());
+            } else {
+                throttle(tmdbLock, tmdbIntervalMs, false);
+                dto = tmdbClient.fetchMovieDetails(record.getExternalId());
+            }
+            result.setFetchedFromUpstream(result.getFetchedFromUpstream() + 1);
+            if (dto == null) {
+                return null;
+            }
+            dto.setType(record.getType());
+            Content saved = contentRepository.save(contentService.fromDto(dto));
+            return saved.getId();
+        } catch (Exception e) {
+            reportError(result, "Could not fetch " + record.getType() + " " + record.getExternalId() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Spaces upstream calls at least intervalMs apart across all concurrent imports. Each caller reserves the
+    // next free slot under the lock and waits for it outside, so the others can queue up meanwhile.
+    private void throttle(ReentrantLock lock, long intervalMs, boolean jikan) throws InterruptedException {
+        long wait;
+        lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            long slot = Math.max(now, jikan ? nextJikanCall : nextTmdbCall);
+            if (jikan) {
+                nextJikanCall = slot + intervalMs;
+            } else {
+                nextTmdbCall = slot + intervalMs;
+            }
+            wait = slot - now;
+        } finally {
+            lock.unlock();
+        }
+        if (wait > 0) {
+            Thread.sleep(wait);
+        }
+    }
+
+    private void validate(WatchlistTransferRecord record) {
+        if (record.getExternalId() == null || record.getExternalId().isBlank()) {
+            throw new IllegalArgumentException("externalId is required");
+        }
+        if (record.getType() == null) {
+            throw new IllegalArgumentException("type is required");
+        }
+        if (record.getStatus() == null) {
+            record.setStatus(WatchListItemStatus.WATCHLIST.name());
+        }
+        WatchListItemStatus.valueOf(record.getStatus());
+    }
+
+    private void reportError(WatchlistImportResult result, String error) {
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(error);
+        }
+    }
+
+    private WatchlistTransferRecord parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        WatchlistTransferRecord record = new WatchlistTransferRecord();
+        record.setExternalId(field(fields, 0));
+        record.setType(field(fields, 1) != null ? ContentType.fromString(field(fields, 1)) : null);
+        record.setStatus(field(fields, 2) != null ? field(fields, 2).toUpperCase() : null);
+        record.setTitle(field(fields, 3));
+        record.setAddedAt(field(fields, 4) != null ? LocalDateTime.parse(field(fields, 4)) : null);
+        return record;
+    }
+
+    private String field(List<String> fields, int index) {
+        if (index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // RFC 4180 style: fields may be quoted, quotes inside quoted fields are doubled
+    private List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private String toCsv(WatchlistTransferRecord record) {
+        return String.join(",",
+                csvField(record.getExternalId()),
+                csvField(record.getType() != null ? record.getType().name() : null),
+                csvField(record.getStatus()),
+                csvField(record.getTitle()),
+                csvField(record.getAddedAt() != null ? record.getAddedAt().toString() : null));
+    }
+
+    private String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,8 @@
+package com.discoverapp.types;
+
+public enum ChannelPurgeState {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
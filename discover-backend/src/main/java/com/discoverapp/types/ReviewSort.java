@@ -0,0 +1,19 @@
+package com.discoverapp.types;
+
+public enum ReviewSort {
+    NEWEST,
+    HIGHEST,
+    HELPFUL;
+
+    public static ReviewSort fromString(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return NEWEST;
+        }
+        for (ReviewSort rs : ReviewSort.values()) {
+            if (rs.name().equalsIgnoreCase(sort)) {
+                return rs;
+            }
+        }
+        throw new IllegalArgumentException("Invalid review sort: " + sort);
+    }
+}
@@ -0,0 +1,7 @@
+package com.discoverapp.types;
+
+public enum WatchlistBulkAction {
+    ADD,
+    UPDATE,
+    REMOVE
+}
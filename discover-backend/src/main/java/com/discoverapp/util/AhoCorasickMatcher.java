@@ -0,0 +1,172 @@
+package com.discoverapp.util;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Immutable multi-pattern matcher. All patterns are compiled into a single deterministic automaton
+ * (Aho-Corasick with failure transitions folded into the goto table), so a text is scanned in one
+ * linear pass regardless of how many patterns there are.
+ *
+ * Text and patterns go through the same normalisation: lower-casing, common leet-speak substitutions
+ * (0 -> o, 1 -> i, 3 -> e, 4 -> a, 5 -> s, 7 -> t, @ -> a, $ -> s) and everything that is not a
+ * letter collapsing to a separator. Patterns only match on whole words.
+ */
+public final class AhoCorasickMatcher {
+
+    // a-z plus one separator symbol
+    private static final int ALPHABET = 27;
+    private static final int SEPARATOR = 26;
+
+    private final int[] transitions;
+    // Length of the pattern ending at this node, or 0 if none
+    private final int[] patternLength;
+    // Nearest proper suffix node that ends a pattern, or -1
+    private final int[] outputLink;
+
+    private AhoCorasickMatcher(int[] transitions, int[] patternLength, int[] outputLink) {
+        this.transitions = transitions;
+        this.patternLength = patternLength;
+        this.outputLink = outputLink;
+    }
+
+    public static AhoCorasickMatcher compile(Collection<String> patterns) {
+        int capacity = 1;
+        for (String pattern : patterns) {
+            capacity += pattern.length();
+        }
+
+        int[] transitions = new int[capacity * ALPHABET];
+        Arrays.fill(transitions, -1);
+        int[] patternLength = new int[capacity];
+        int nodes = 1;
+
+        // Build the trie
+        for (String raw : patterns) {
+            String pattern = normalise(raw).trim();
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            int node = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                int symbol = symbol(pattern.charAt(i));
+                int next = transitions[node * ALPHABET + symbol];
+                if (next == -1) {
+                    next = nodes++;
+                    transitions[node * ALPHABET + symbol] = next;
+                }
+                node = next;
+            }
+            patternLength[node] = pattern.length();
+        }
+
+        // Breadth-first pass to compute failure links and fold them into the goto table
+        int[] fail = new int[nodes];
+        int[] outputLink = new int[nodes];
+        Arrays.fill(outputLink, -1);
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < ALPHABET; symbol++) {
+            int child = transitions[symbol];
+            if (child == -1) {
+                transitions[symbol] = 0;
+            } else {
+                fail[child] = 0;
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            int failNode = fail[node];
+            outputLink[node] = patternLength[failNode] > 0 ? failNode : outputLink[failNode];
+            for (int symbol = 0; symbol < ALPHABET; symbol++) {
+                int child = transitions[node * ALPHABET + symbol];
+                if (child == -1) {
+                    transitions[node * ALPHABET + symbol] = transitions[failNode * ALPHABET + symbol];
+                } else {
+                    fail[child] = transitions[failNode * ALPHABET + symbol];
+                    queue.add(child);
+                }
+            }
+        }
+
+        return new AhoCorasickMatcher(
+                Arrays.copyOf(transitions, nodes * ALPHABET),
+                Arrays.copyOf(patternLength, nodes),
+                outputLink);
+    }
+
+    public static AhoCorasickMatcher empty() {
+        return compile(List.of());
+    }
+
+    /**
+     * @return true if any pattern occurs in the text as a whole word
+     */
+    public boolean matches(CharSequence text) {
+        return findFirst(text) != null;
+    }
+
+    /**
+     * @return the normalised form of the first matching pattern, or null if nothing matches
+     */
+    public String findFirst(CharSequence text) {
+        if (text == null || text.length() == 0) {
+            return null;
+        }
+        int length = text.length();
+        int node = 0;
+        for (int i = 0; i < length; i++) {
+            node = transitions[node * ALPHABET + symbol(normalise(text.charAt(i)))];
+            boolean endsWord = i + 1 == length || symbol(normalise(text.charAt(i + 1))) == SEPARATOR;
+            if (!endsWord) {
+                continue;
+            }
+            for (int out = patternLength[node] > 0 ? node : outputLink[node]; out != -1; out = outputLink[out]) {
+                int start = i + 1 - patternLength[out];
+                if (start == 0 || symbol(normalise(text.charAt(start - 1))) == SEPARATOR) {
+                    StringBuilder match = new StringBuilder(patternLength[out]);
+                    for (int j = start; j <= i; j++) {
+                        match.append(normalise(text.charAt(j)));
+                    }
+                    return match.toString();
+                }
+            }
+        }
+        return null;
+    }
+
+    public int nodeCount() {
+        return patternLength.length;
+    }
+
+    private static String normalise(String text) {
+        StringBuilder normalised = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            normalised.append(normalise(text.charAt(i)));
+        }
+        return normalised.toString();
+    }
+
+    private static char normalise(char c) {
+        switch (c) {
+            case '0': return 'o';
+            case '1': return 'i';
+            case '3': return 'e';
+            case '4': return 'a';
+            case '5': return 's';
+            case '7': return 't';
+            case '@': return 'a';
+            case '$': return 's';
+            default:
+                char lower = Character.toLowerCase(c);
+                return lower >= 'a' && lower <= 'z' ? lower : ' ';
+        }
+    }
+
+    private static int symbol(char normalised) {
+        return normalised == ' ' ? SEPARATOR : normalised - 'a';
+    }
+}
@@ -0,0 +1,70 @@
+package com.discoverapp.util;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket. Refill is computed lazily from elapsed time on each call, and the
+ * (tokens, timestamp) pair is swapped atomically, so concurrent callers never block each other.
+ */
+public final class TokenBucket {
+
+    /**
+     * @param remaining whole tokens left after this call
+     * @param nanosToWait 0 if allowed, otherwise the time until enough tokens are available
+     */
+    public record Probe(boolean allowed, long remaining, long nanosToWait) {}
+
+    private record State(double tokens, long refilledAt) {}
+
+    private final long capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    /**
+     * @param capacity burst size
+     * @param refillTokens tokens added every refillPeriodNanos
+     */
+    public TokenBucket(long capacity, long refillTokens, long refillPeriodNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = (double) refillTokens / refillPeriodNanos;
+        this.state = new AtomicReference<>(new State(capacity, System.nanoTime()));
+    }
+
+    public Probe tryConsume(long cost) {
+        while (true) {
+            State current = state.get();
+            long now = System.nanoTime();
+            double available = Math.min(capacity, current.tokens() + (now - current.refilledAt()) * tokensPerNano);
+            if (available < cost) {
+                long wait = (long) Math.ceil((cost - available) / tokensPerNano);
+                // Record the refill so lastUsedNanos() reflects this attempt
+                if (state.compareAndSet(current, new State(available, now))) {
+                    return new Probe(false, (long) available, wait);
+                }
+                continue;
+            }
+            if (state.compareAndSet(current, new State(available - cost, now))) {
+                return new Probe(true, (long) (available - cost), 0);
+            }
+        }
+    }
+
+    // Answers like tryConsume without taking anything, for limits that are only charged after the fact
+    public Probe peek(long cost) {
+        State current = state.get();
+        double available = Math.min(capacity, current.tokens() + (System.nanoTime() - current.refilledAt()) * tokensPerNano);
+        if (available < cost) {
+            return new Probe(false, (long) available, (long) Math.ceil((cost - available) / tokensPerNano));
+        }
+        return new Probe(true, (long) available, 0);
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    // Used to evict buckets that have been idle (and are therefore full) for a while
+    public long lastUsedNanos() {
+        return state.get().refilledAt();
+    }
+}
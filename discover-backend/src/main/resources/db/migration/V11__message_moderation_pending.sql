@@ -0,0 +1,6 @@
+-- Messages waiting for the background moderation stage. The in-memory queue is lost on restart and drops ids
+-- when full, so a periodic sweep re-queues whatever is still pending; the partial index keeps that cheap.
+
+ALTER TABLE message ADD COLUMN IF NOT EXISTS moderation_pending boolean DEFAULT false NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_message_moderation_pending ON message (id) WHERE moderation_pending;
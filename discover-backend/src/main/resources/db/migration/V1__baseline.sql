@@ -0,0 +1,112 @@
+-- Baseline: the schema as Hibernate generated it before migrations took over (the original entity mappings).
+-- Databases created by ddl-auto are baselined at this version and skip it (spring.flyway.baseline-on-migrate),
+-- so everything added since lives in V2+ and must tolerate objects that ddl-auto may already have created.
+
+CREATE TABLE users (
+    id           bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username     varchar(255) NOT NULL UNIQUE,
+    email        varchar(255) NOT NULL UNIQUE,
+    password     varchar(255) NOT NULL,
+    preferences  text,
+    profile_info varchar(255),
+    bio          text,
+    avatar       varchar(255)
+);
+
+CREATE TABLE user_roles (
+    user_id bigint NOT NULL REFERENCES users (id),
+    roles   varchar(255)
+);
+
+CREATE TABLE genre (
+    id           bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    external_id  bigint       NOT NULL,
+    content_type smallint     NOT NULL, -- ContentType ordinal
+    name         varchar(255) NOT NULL
+);
+
+CREATE TABLE content (
+    id            bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title         varchar(255),
+    description   text,
+    poster_url    varchar(255),
+    backdrop_path varchar(255),
+    trailer_url   varchar(255),
+    release_date  date,
+    cast_list     text,
+    ratings       float(53),
+    type          varchar(255),
+    label         varchar(255),
+    external_id   varchar(255),
+    trailer_id    varchar(255)
+);
+
+CREATE TABLE content_genre (
+    content_id bigint NOT NULL REFERENCES content (id),
+    genre_id   bigint NOT NULL REFERENCES genre (id),
+    PRIMARY KEY (content_id, genre_id)
+);
+
+CREATE TABLE content_image_urls (
+    content_id bigint NOT NULL REFERENCES content (id),
+    image_url  text
+);
+
+CREATE TABLE content_recommended_ids (
+    content_id     bigint NOT NULL REFERENCES content (id),
+    recommended_id varchar(255)
+);
+
+CREATE TABLE channel (
+    id            bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name          varchar(255),
+    description   varchar(255),
+    created_by_id bigint REFERENCES users (id),
+    created_at    timestamp(6)
+);
+
+CREATE TABLE channel_members (
+    user_id    bigint NOT NULL REFERENCES users (id),
+    channel_id bigint NOT NULL REFERENCES channel (id),
+    PRIMARY KEY (user_id, channel_id)
+);
+
+CREATE TABLE message (
+    id                bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    channel_id        bigint REFERENCES channel (id),
+    user_id           bigint REFERENCES users (id),
+    content           text,
+    parent_message_id bigint REFERENCES message (id),
+    created_at        timestamp(6),
+    moderated         boolean NOT NULL
+);
+
+CREATE TABLE watchlist_item (
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    bigint REFERENCES users (id),
+    content_id bigint REFERENCES content (id),
+    status     varchar(255),
+    added_at   timestamp(6)
+);
+
+CREATE TABLE review (
+    id          bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id     bigint REFERENCES users (id),
+    content_id  bigint REFERENCES content (id),
+    rating      float(53),
+    review_text text,
+    created_at  timestamp(6)
+);
+
+CREATE TABLE recommendation_log (
+    id                 bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id            bigint REFERENCES users (id),
+    input_description  text,
+    recommended_titles text,
+    created_at         timestamp(6)
+);
+
+CREATE TABLE fetch_log (
+    key             varchar(255) NOT NULL PRIMARY KEY,
+    last_fetched_at timestamp(6)
+);
@@ -0,0 +1,21 @@
+-- Per-user read cursors and the channel message counter they are compared against.
+-- IF NOT EXISTS because databases baselined from ddl-auto may already have them.
+
+ALTER TABLE channel ADD COLUMN IF NOT EXISTS message_count bigint DEFAULT 0 NOT NULL;
+
+CREATE TABLE IF NOT EXISTS channel_read_state (
+    id                   bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id              bigint NOT NULL REFERENCES users (id),
+    channel_id           bigint NOT NULL REFERENCES channel (id),
+    last_read_message_id bigint,
+    read_message_count   bigint NOT NULL,
+    updated_at           timestamp(6),
+    UNIQUE (user_id, channel_id)
+);
+
+-- Start the counters from the messages that already exist, so unread totals are right for existing channels.
+-- greatest() keeps counts a ddl-auto database has been maintaining (they also include deleted messages).
+UPDATE channel c
+SET message_count = greatest(c.message_count, m.total)
+FROM (SELECT channel_id, count(*) AS total FROM message GROUP BY channel_id) m
+WHERE m.channel_id = c.id;
@@ -0,0 +1,15 @@
+-- Retention policy per channel and the cold tier messages are moved into once they expire.
+
+ALTER TABLE channel ADD COLUMN IF NOT EXISTS retention_days integer;
+ALTER TABLE message ADD COLUMN IF NOT EXISTS archived_parent_id bigint;
+
+CREATE TABLE IF NOT EXISTS message_archive (
+    id                bigint NOT NULL PRIMARY KEY,
+    channel_id        bigint NOT NULL,
+    user_id           bigint,
+    content           text,
+    parent_message_id bigint,
+    created_at        timestamp(6),
+    moderated         boolean NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_message_archive_channel_id ON message_archive (channel_id, id);
@@ -0,0 +1,15 @@
+-- One watchlist entry per user and content; the bulk endpoints upsert against this constraint.
+
+-- addWatchlistItem used to insert duplicates; keep the newest row of each (user, content) pair
+DELETE FROM watchlist_item w
+USING watchlist_item newer
+WHERE newer.user_id = w.user_id
+  AND newer.content_id = w.content_id
+  AND newer.id > w.id;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_watchlist_item_user_content') THEN
+        ALTER TABLE watchlist_item ADD CONSTRAINT uk_watchlist_item_user_content UNIQUE (user_id, content_id);
+    END IF;
+END $$;
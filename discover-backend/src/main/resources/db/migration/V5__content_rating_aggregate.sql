@@ -0,0 +1,35 @@
+-- Running review totals per content, maintained incrementally by ReviewService.
+
+CREATE TABLE IF NOT EXISTS content_rating_aggregate (
+    content_id   bigint    NOT NULL PRIMARY KEY,
+    review_count bigint    NOT NULL,
+    rating_sum   float(53) NOT NULL,
+    histogram    integer[]
+);
+
+-- Backfill from the reviews written before the aggregate existed; otherwise those titles show no ratings
+-- and deleting one of their reviews drives the totals negative. Recomputed from scratch, so rows that
+-- ddl-auto databases already accumulated are corrected too. Buckets round half up like ReviewService.
+WITH counts AS (
+    SELECT content_id,
+           greatest(0, least(10, floor(rating + 0.5)))::int AS bucket,
+           count(*)    AS reviews,
+           sum(rating) AS rating_sum
+    FROM review
+    WHERE rating IS NOT NULL
+      AND content_id IS NOT NULL
+    GROUP BY 1, 2
+)
+INSERT INTO content_rating_aggregate (content_id, review_count, rating_sum, histogram)
+SELECT c.content_id,
+       sum(c.reviews),
+       sum(c.rating_sum),
+       (SELECT array_agg(coalesce(b.reviews, 0)::int ORDER BY i)
+        FROM generate_series(0, 10) i
+        LEFT JOIN counts b ON b.content_id = c.content_id AND b.bucket = i)
+FROM counts c
+GROUP BY c.content_id
+ON CONFLICT (content_id) DO UPDATE SET
+    review_count = EXCLUDED.review_count,
+    rating_sum   = EXCLUDED.rating_sum,
+    histogram    = EXCLUDED.histogram;
@@ -0,0 +1,15 @@
+-- Helpful votes and the keyset indexes behind the sorted review feeds.
+
+ALTER TABLE review ADD COLUMN IF NOT EXISTS helpful_count integer DEFAULT 0 NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_review_content_created ON review (content_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_review_content_rating ON review (content_id, rating, id);
+CREATE INDEX IF NOT EXISTS idx_review_content_helpful ON review (content_id, helpful_count, id);
+
+CREATE TABLE IF NOT EXISTS review_vote (
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    review_id  bigint REFERENCES review (id),
+    user_id    bigint REFERENCES users (id),
+    created_at timestamp(6),
+    CONSTRAINT uk_review_vote_review_user UNIQUE (review_id, user_id)
+);
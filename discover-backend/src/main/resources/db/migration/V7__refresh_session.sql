@@ -0,0 +1,12 @@
+-- One row per login for refresh-token rotation; only the token's digest is stored.
+
+CREATE TABLE IF NOT EXISTS refresh_session (
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    session_id varchar(36)  NOT NULL UNIQUE,
+    token_hash varchar(43)  NOT NULL UNIQUE,
+    user_id    bigint       NOT NULL REFERENCES users (id),
+    expires_at timestamp(6) NOT NULL,
+    created_at timestamp(6)
+);
+CREATE INDEX IF NOT EXISTS idx_refresh_session_user ON refresh_session (user_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_session_expires ON refresh_session (expires_at);
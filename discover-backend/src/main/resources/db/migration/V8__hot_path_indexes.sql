@@ -0,0 +1,55 @@
+-- Indexes for the lookups every request path leans on. IF NOT EXISTS because databases baselined from
+-- ddl-auto may already carry some of them.
+
+-- Catalog lookups by upstream id (details, watchlist import, recommendation resolution)
+CREATE INDEX IF NOT EXISTS idx_content_external_id_type ON content (external_id, type);
+-- Catalog listings by type, and the trending list by type and label
+CREATE INDEX IF NOT EXISTS idx_content_type_label ON content (type, label);
+
+-- Channel history pages and the retention job's cutoff scan
+CREATE INDEX IF NOT EXISTS idx_message_channel_created ON message (channel_id, created_at);
+-- Replies are detached by parent before a purge or archive delete
+CREATE INDEX IF NOT EXISTS idx_message_parent ON message (parent_message_id);
+
+-- The member PK leads with user_id; listing or clearing a channel's members needs channel_id first
+CREATE INDEX IF NOT EXISTS idx_channel_members_channel ON channel_members (channel_id);
+CREATE INDEX IF NOT EXISTS idx_channel_read_state_channel ON channel_read_state (channel_id);
+
+CREATE INDEX IF NOT EXISTS idx_content_genre_genre ON content_genre (genre_id);
+
+-- review(content_id) and watchlist_item(user_id) are already served by idx_review_content_* and
+-- uk_watchlist_item_user_content, which lead with those columns; a separate index would only slow writes.
+
+-- One genre row per upstream id and content type. Collapse duplicates left by concurrent bootstraps
+-- onto the lowest id first.
+CREATE TEMPORARY TABLE genre_duplicate AS
+SELECT id, keep_id
+FROM (SELECT id, min(id) OVER (PARTITION BY external_id, content_type) AS keep_id FROM genre) g
+WHERE id <> keep_id;
+
+-- Drop links that would collide after the rewrite: keep the lowest genre id per content and target
+DELETE FROM content_genre cg
+USING genre_duplicate d
+WHERE cg.genre_id = d.id
+  AND EXISTS (SELECT 1
+              FROM content_genre k
+              LEFT JOIN genre_duplicate kd ON kd.id = k.genre_id
+              WHERE k.content_id = cg.content_id
+                AND coalesce(kd.keep_id, k.genre_id) = d.keep_id
+                AND k.genre_id < cg.genre_id);
+
+UPDATE content_genre cg
+SET genre_id = d.keep_id
+FROM genre_duplicate d
+WHERE cg.genre_id = d.id;
+
+DELETE FROM genre g USING genre_duplicate d WHERE g.id = d.id;
+
+DROP TABLE genre_duplicate;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_genre_external_id_content_type') THEN
+        ALTER TABLE genre ADD CONSTRAINT uk_genre_external_id_content_type UNIQUE (external_id, content_type);
+    END IF;
+END $$;
@@ -0,0 +1,30 @@
+-- Content.imageUrls and Content.recommendedContentIds move from element-collection side tables into
+-- array columns on content, so list and detail reads no longer need two extra selects per row.
+-- Guarded because databases baselined from ddl-auto may already have the columns and no side tables.
+
+ALTER TABLE content ADD COLUMN IF NOT EXISTS image_urls text[];
+ALTER TABLE content ADD COLUMN IF NOT EXISTS recommended_ids text[];
+
+DO $$
+BEGIN
+    IF to_regclass('content_image_urls') IS NOT NULL THEN
+        UPDATE content c
+        SET image_urls = s.urls
+        FROM (SELECT content_id, array_agg(image_url ORDER BY ctid) AS urls
+              FROM content_image_urls
+              GROUP BY content_id) s
+        WHERE c.id = s.content_id;
+    END IF;
+
+    IF to_regclass('content_recommended_ids') IS NOT NULL THEN
+        UPDATE content c
+        SET recommended_ids = s.ids
+        FROM (SELECT content_id, array_agg(recommended_id ORDER BY ctid) AS ids
+              FROM content_recommended_ids
+              GROUP BY content_id) s
+        WHERE c.id = s.content_id;
+    END IF;
+END $$;
+
+DROP TABLE IF EXISTS content_image_urls;
+DROP TABLE IF EXISTS content_recommended_ids;
@@ -0,0 +1,145 @@
+package com.discoverapp;
+
+import com.discoverapp.repository.FetchLogRepository;
+import com.discoverapp.types.ContentType;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the whole application with the real TMDB and Jikan clients pointed at a local stub, once with instant
+ * genre responses and once with every genre call taking UPSTREAM_LATENCY, each against a fresh database.
+ * Reports the time until the application is ready and until all genre types are stored; only the latter may
+ * grow with upstream latency. Run with {@code mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+class GenreStartupBenchmark {
+    private static final Duration UPSTREAM_LATENCY = Duration.ofSeconds(3);
+    private static final Map<String, String> GENRES = Map.of(
+            "/tmdb/genre/movie/list", "{\"genres\":[{\"id\":28,\"name\":\"Action\"}]}",
+            "/tmdb/genre/tv/list", "{\"genres\":[{\"id\":10759,\"name\":\"Action & Adventure\"}]}",
+            "/jikan/genres/anime", "{\"data\":[{\"mal_id\":1,\"name\":\"Action\"}]}");
+
+    private static final EmbeddedPostgres POSTGRES = PostgresIntegrationTest.start();
+    private static final AtomicInteger databases = new AtomicInteger();
+    private static final ExecutorService stubThreads = Executors.newCachedThreadPool();
+    private static HttpServer upstream;
+    private static volatile Duration latency = Duration.ZERO;
+
+    @BeforeAll
+    static void startUpstream() throws IOException {
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        upstream.createContext("/", GenreStartupBenchmark::respond);
+        upstream.setExecutor(stubThreads);
+        upstream.start();
+    }
+
+    @AfterAll
+    static void stopUpstream() throws IOException {
+        upstream.stop(0);
+        stubThreads.shutdownNow();
+        POSTGRES.close();
+    }
+
+    @Test
+    void readinessDoesNotWaitForGenreUpstreams() throws Exception {
+        boot(Duration.ZERO); // warm-up: the first boot in a JVM pays for class loading
+        Boot fast = boot(Duration.ZERO);
+        Boot slow = boot(UPSTREAM_LATENCY);
+
+        System.out.printf("genre upstream latency %5d ms: ready %5d ms, genres stored %5d ms%n",
+                0, fast.readyMs(), fast.genresMs());
+        System.out.printf("genre upstream latency %5d ms: ready %5d ms, genres stored %5d ms%n",
+                UPSTREAM_LATENCY.toMillis(), slow.readyMs(), slow.genresMs());
+        // blocking bootstrap would add the latency once per content type to readiness
+        assertThat(slow.readyMs()).isLessThan(fast.readyMs() + UPSTREAM_LATENCY.toMillis());
+        // the three refreshes run in parallel after readiness
+        assertThat(slow.genresMs()).isGreaterThanOrEqualTo(UPSTREAM_LATENCY.toMillis())
+                .isLessThan(slow.readyMs() + 2 * UPSTREAM_LATENCY.toMillis());
+    }
+
+    private Boot boot(Duration upstreamLatency) throws Exception {
+        latency = upstreamLatency;
+        String database = createDatabase();
+        String stubUrl = "http://localhost:" + upstream.getAddress().getPort();
+
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DiscoverBackendApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + POSTGRES.getJdbcUrl("postgres", database),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.jpa.hibernate.ddl-auto=validate",
+                "--spring.jpa.show-sql=false",
+                "--jwt.secret=integration-test-secret-integration-test-secret",
+                "--api.tmdb.key=test",
+                "--api.gemini.key=test",
+                "--api.tmdb.base-url=" + stubUrl + "/tmdb",
+                "--api.jikan.base-url=" + stubUrl + "/jikan",
+                "--logging.level.root=WARN")) {
+            long readyMs = elapsedMs(start);
+            FetchLogRepository fetchLogs = context.getBean(FetchLogRepository.class);
+            while (fetchLogs.count() < ContentType.values().length) {
+                assertThat(elapsedMs(start)).as("genres stored").isLessThan(readyMs + 30_000);
+                Thread.sleep(20);
+            }
+            return new Boot(readyMs, elapsedMs(start));
+        }
+    }
+
+    private static String createDatabase() throws SQLException {
+        String name = "genre_boot_" + databases.incrementAndGet();
+        try (Connection connection = POSTGRES.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE " + name);
+        }
+        return name;
+    }
+
+    private static void respond(HttpExchange exchange) throws IOException {
+        String body = GENRES.get(exchange.getRequestURI().getPath());
+        try (exchange) {
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            Thread.sleep(latency.toMillis());
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long elapsedMs(long start) {
+        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+    }
+
+    private record Boot(long readyMs, long genresMs) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.discoverapp;
+
+import com.discoverapp.external.GeminiClient;
+import com.discoverapp.external.JikanClient;
+import com.discoverapp.external.OpenAiClient;
+import com.discoverapp.external.TmdbClient;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Base for tests that need the full application against a real PostgreSQL. The server is started once per
+ * JVM from bundled binaries and migrated by Flyway on context start; Hibernate only validates the result,
+ * so a migration that drifts from the entity mappings fails every integration test.
+ * Upstream API clients are mocked so nothing leaves the machine. The properties live in @TestPropertySource
+ * so subclasses can redeclare @SpringBootTest (e.g. for a real web server) and add their own.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+        "jwt.secret=integration-test-secret-integration-test-secret",
+        "api.tmdb.key=test",
+        "api.gemini.key=test",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.discoverapp.SqlStatementRecorder"
+})
+public abstract class PostgresIntegrationTest {
+    protected static final EmbeddedPostgres POSTGRES = start();
+
+    @MockBean
+    protected TmdbClient tmdbClient;
+
+    @MockBean
+    protected JikanClient jikanClient;
+
+    @MockBean
+    protected GeminiClient geminiClient;
+
+    @MockBean
+    protected OpenAiClient openAiClient;
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    protected static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start embedded PostgreSQL", e);
+        }
+    }
+}
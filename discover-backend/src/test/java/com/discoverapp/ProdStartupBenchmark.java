@@ -0,0 +1,187 @@
+package com.discoverapp;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Startup and first-request latency of the {@code mvn -Pprod package} layout in target/app, launched as separate
+ * JVMs against an already migrated database: plain, with AOT, and with AOT plus the CDS archive. Each mode starts
+ * RUNS times; the report has the median time until the port accepts connections and the latency of the first and
+ * second GET of a content row. The JVM must be the one that produced app.jsa, or the archive is silently ignored.
+ * Skipped unless target/app exists; run with {@code mvn -Pprod package && mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+class ProdStartupBenchmark {
+    private static final Path APP_DIR = Path.of("target", "app");
+    private static final int RUNS = 3;
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(2);
+    private static final String DEAD_UPSTREAM = "http://localhost:1";
+
+    private static final EmbeddedPostgres POSTGRES = PostgresIntegrationTest.start();
+    private static long contentId;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private enum Mode {
+        PLAIN(),
+        AOT("-Dspring.aot.enabled=true"),
+        AOT_CDS("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=app.jsa");
+
+        private final List<String> jvmArgs;
+
+        Mode(String... jvmArgs) {
+            this.jvmArgs = List.of(jvmArgs);
+        }
+    }
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        Flyway.configure().dataSource(POSTGRES.getPostgresDatabase()).load().migrate();
+        try (Connection connection = POSTGRES.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet id = statement.executeQuery(
+                     "INSERT INTO content (title, type, label, external_id) "
+                             + "VALUES ('Startup', 'MOVIE', 'CONTENT', 'prod-startup') RETURNING id")) {
+            id.next();
+            contentId = id.getLong(1);
+        }
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        POSTGRES.close();
+    }
+
+    @Test
+    void startupAndFirstRequest() throws Exception {
+        assumeTrue(Files.exists(APP_DIR.resolve("app.jsa")), "no target/app; build it with mvn -Pprod package");
+
+        System.out.printf("%-8s %10s %14s %15s   (median of %d, %d CPUs)%n", "mode", "start ms", "1st request ms",
+                "2nd request ms", RUNS, Runtime.getRuntime().availableProcessors());
+        for (Mode mode : Mode.values()) {
+            List<Run> runs = new ArrayList<>();
+            for (int i = 0; i < RUNS; i++) {
+                runs.add(launch(mode, i));
+            }
+            System.out.printf("%-8s %10d %14d %15d%n", mode, median(runs.stream().mapToLong(Run::startMs)),
+                    median(runs.stream().mapToLong(Run::firstRequestMs)),
+                    median(runs.stream().mapToLong(Run::secondRequestMs)));
+        }
+    }
+
+    private Run launch(Mode mode, int run) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(mode.jvmArgs);
+        command.addAll(List.of(
+                "-Dspring.profiles.active=prod",
+                "-Dserver.port=" + port,
+                "-Dspring.datasource.url=" + POSTGRES.getJdbcUrl("postgres", "postgres"),
+                "-Dspring.datasource.username=postgres",
+                "-Dspring.datasource.password=postgres",
+                "-Djwt.secret=integration-test-secret-integration-test-secret",
+                "-Dapi.tmdb.key=test",
+                "-Dapi.gemini.key=test",
+                "-Dapi.tmdb.base-url=" + DEAD_UPSTREAM,
+                "-Dapi.jikan.base-url=" + DEAD_UPSTREAM,
+                "-Dapi.gemini.base-url=" + DEAD_UPSTREAM,
+                "-Dapi.openai.base-url=" + DEAD_UPSTREAM,
+                "-cp", appJar().getFileName() + File.pathSeparator + "lib/*",
+                DiscoverBackendApplication.class.getName()));
+        Path log = APP_DIR.resolveSibling("prod-startup-" + mode.name().toLowerCase() + "-" + run + ".log");
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(APP_DIR.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            awaitPort(process, port, log);
+            long startMs = elapsedMs(start);
+            return new Run(startMs, timedGet(port), timedGet(port));
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static void awaitPort(Process process, int port, Path log) throws InterruptedException {
+        long deadline = System.nanoTime() + START_TIMEOUT.toNanos();
+        while (true) {
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress("localhost", port), 100);
+                return;
+            } catch (IOException notYet) {
+                assertThat(process.isAlive()).as("application exited, see %s", log).isTrue();
+                assertThat(System.nanoTime()).as("application did not start, see %s", log).isLessThan(deadline);
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    private long timedGet(int port) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/content/" + contentId))
+                .GET().build();
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        long ms = elapsedMs(start);
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("prod-startup");
+        return ms;
+    }
+
+    private static Path appJar() throws IOException {
+        try (Stream<Path> files = Files.list(APP_DIR)) {
+            return files.filter(file -> file.getFileName().toString().endsWith("-app.jar")).findFirst()
+                    .orElseThrow(() -> new IllegalStateException("no *-app.jar in " + APP_DIR));
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(LongStream values) {
+        long[] sorted = values.sorted().toArray();
+        return sorted[sorted.length / 2];
+    }
+
+    private static long elapsedMs(long start) {
+        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+    }
+
+    private record Run(long startMs, long firstRequestMs, long secondRequestMs) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.discoverapp;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate statement inspector that records the SQL prepared on the current thread between
+ * {@link #start()} and {@link #stop()}. Background jobs running in the same context are not recorded.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    public static void start() {
+        RECORDED.set(new ArrayList<>());
+    }
+
+    /**
+     * @return the statements recorded since {@link #start()}, in execution order
+     */
+    public static List<String> stop() {
+        List<String> recorded = RECORDED.get();
+        RECORDED.remove();
+        return recorded != null ? recorded : List.of();
+    }
+
+    /**
+     * Runs the action and returns the statements it prepared on this thread, for query-count assertions.
+     */
+    public static List<String> record(Executable action) throws Throwable {
+        start();
+        try {
+            action.execute();
+        } catch (Throwable e) {
+            stop();
+            throw e;
+        }
+        return stop();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> recorded = RECORDED.get();
+        if (recorded != null) {
+            recorded.add(sql);
+        }
+        return sql;
+    }
+}
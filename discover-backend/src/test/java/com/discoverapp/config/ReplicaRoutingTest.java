@@ -0,0 +1,116 @@
+package com.discoverapp.config;
+
+import com.discoverapp.PostgresIntegrationTest;
+import com.discoverapp.service.ReplicaLagService;
+import com.discoverapp.service.WatchlistService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the application against two PostgreSQL servers, the second configured as spring.datasource.replica.
+ * Each server answers inet_server_port() with its own port, which shows where a statement was routed.
+ */
+class ReplicaRoutingTest extends PostgresIntegrationTest {
+    private static final EmbeddedPostgres REPLICA = startReplica();
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReplicaLagService replicaLagService;
+
+    @Autowired
+    private WatchlistService watchlistService;
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.replica.url", () -> REPLICA.getJdbcUrl("postgres", "postgres"));
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        assertThat(serverPort(true)).isEqualTo(REPLICA.getPort());
+    }
+
+    @Test
+    void readWriteTransactionsUseThePrimary() {
+        assertThat(serverPort(false)).isEqualTo(POSTGRES.getPort());
+    }
+
+    @Test
+    void workOutsideTransactionsUsesThePrimary() {
+        assertThat(jdbcTemplate.queryForObject("SELECT inet_server_port()", Integer.class)).isEqualTo(POSTGRES.getPort());
+    }
+
+    @Test
+    void userReadsStayOnThePrimaryAfterTheirOwnWrite() {
+        authenticate("replica-writer");
+        replicaLagService.markWrite("replica-writer");
+        assertThat(serverPort(true)).isEqualTo(POSTGRES.getPort());
+
+        authenticate("replica-reader");
+        assertThat(serverPort(true)).isEqualTo(REPLICA.getPort());
+    }
+
+    @Test
+    void writesWithoutUsernamePinTheAuthenticatedUser() {
+        authenticate("replica-remover");
+        watchlistService.removeWatchlistItem(-1L);
+
+        assertThat(serverPort(true)).isEqualTo(POSTGRES.getPort());
+    }
+
+    @Test
+    void laggingReplicaSendsReadsToThePrimary() {
+        Object maxLagMs = ReflectionTestUtils.getField(replicaLagService, "maxLagMs");
+        // Any lag, even 0, now exceeds the limit; the scheduled lag check never touches maxLagMs
+        ReflectionTestUtils.setField(replicaLagService, "maxLagMs", -1L);
+        try {
+            assertThat(serverPort(true)).isEqualTo(POSTGRES.getPort());
+        } finally {
+            ReflectionTestUtils.setField(replicaLagService, "maxLagMs", maxLagMs);
+        }
+    }
+
+    private int serverPort(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        Integer port = transaction.execute(status -> jdbcTemplate.queryForObject("SELECT inet_server_port()", Integer.class));
+        return port != null ? port : -1;
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    private static EmbeddedPostgres startReplica() {
+        EmbeddedPostgres replica = start();
+        // The application migrates only the primary; a real replica gets its schema through replication
+        Flyway.configure().dataSource(replica.getPostgresDatabase()).load().migrate();
+        return replica;
+    }
+}
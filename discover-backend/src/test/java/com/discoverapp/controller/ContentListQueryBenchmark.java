@@ -0,0 +1,160 @@
+package com.discoverapp.controller;
+
+import com.discoverapp.PostgresIntegrationTest;
+import com.discoverapp.SqlStatementRecorder;
+import com.discoverapp.dto.ContentDto;
+import com.discoverapp.entity.Genre;
+import com.discoverapp.repository.FetchLogRepository;
+import com.discoverapp.repository.GenreRepository;
+import com.discoverapp.types.ContentLabel;
+import com.discoverapp.types.ContentType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statements and latency per request for the content list endpoints and the details endpoint as the number of
+ * items grows. At each size the upstream mocks return that many results (details: that many images and
+ * recommendations), the first call stores them and the measured calls read them back with the second-level
+ * cache emptied. With image urls and recommendation ids inline on the content row, the statement count must not
+ * move with the size. Run with {@code mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "rate-limit.enabled=false")
+class ContentListQueryBenchmark extends PostgresIntegrationTest {
+    private static final int[] SIZES = {10, 100, 500};
+    private static final int ITERATIONS = 20;
+    private static final long GENRE_A = 991_001L;
+    private static final long GENRE_B = 991_002L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private FetchLogRepository fetchLogRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void statementsStayFlatAsResultsGrow() throws Throwable {
+        genre(GENRE_A, "List Benchmark A");
+        genre(GENRE_B, "List Benchmark B");
+        Map<String, List<Integer>> statementsByEndpoint = new LinkedHashMap<>();
+
+        System.out.printf("%-10s %6s %6s %11s %12s%n", "endpoint", "size", "rows", "statements", "ms/request");
+        for (int size : SIZES) {
+            String run = "lqb-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+            stubUpstream(run, size);
+            fetchLogRepository.deleteById("DISCOVER_" + ContentType.SERIES.name());
+
+            Map<String, String> endpoints = new LinkedHashMap<>();
+            endpoints.put("list", "/api/content/series");
+            endpoints.put("trending", "/api/content/trending/SERIES");
+            endpoints.put("search", "/api/content/search/SERIES?query=" + run);
+            endpoints.put("details", "/api/content/details/" + run + "detail?type=SERIES");
+            for (Map.Entry<String, String> endpoint : endpoints.entrySet()) {
+                Measurement measurement = measure(endpoint.getValue());
+                statementsByEndpoint.computeIfAbsent(endpoint.getKey(), key -> new ArrayList<>()).add(measurement.statements());
+                System.out.printf("%-10s %6d %6d %11d %12.2f%n", endpoint.getKey(), size, measurement.rows(),
+                        measurement.statements(), measurement.meanMs());
+            }
+        }
+
+        statementsByEndpoint.forEach((endpoint, statements) -> assertThat(statements)
+                .as("statements per %s request at sizes 10, 100, 500", endpoint)
+                .allSatisfy(count -> assertThat(count).isLessThanOrEqualTo(statements.get(0))));
+    }
+
+    private Measurement measure(String url) throws Throwable {
+        mockMvc.perform(get(url)).andExpect(status().isOk()); // stores the upstream results
+        mockMvc.perform(get(url)).andExpect(status().isOk()); // warm-up on the stored rows
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        String[] body = new String[1];
+        int statements = SqlStatementRecorder.record(() -> body[0] = mockMvc.perform(get(url))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString()).size();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            mockMvc.perform(get(url)).andExpect(status().isOk());
+        }
+        double meanMs = (System.nanoTime() - start) / 1e6 / ITERATIONS;
+
+        JsonNode json = objectMapper.readTree(body[0]);
+        int rows = json.isArray() ? json.size() : json.path("recommendedContent").size();
+        return new Measurement(rows, statements, meanMs);
+    }
+
+    private void stubUpstream(String run, int size) {
+        when(tmdbClient.fetchContentList(ContentType.SERIES)).thenReturn(upstream(run + "list-", size, null));
+        when(tmdbClient.fetchTrendingContent(ContentType.SERIES))
+                .thenReturn(upstream(run + "trending-", size, ContentLabel.TRENDING));
+        when(tmdbClient.searchContent(anyString())).thenReturn(upstream(run + "search-", size, null));
+
+        ContentDto detail = upstream(run + "detail", 1, null).get(0);
+        detail.setExternalId(run + "detail");
+        when(tmdbClient.fetchMovieDetails(run + "detail")).thenReturn(detail);
+        when(tmdbClient.fetchTrailer(eq(run + "detail"), eq(ContentType.SERIES))).thenReturn(null);
+        when(tmdbClient.fetchImages(eq(run + "detail"), eq(ContentType.SERIES)))
+                .thenReturn(IntStream.range(0, size).mapToObj(i -> "https://images.example/" + run + i + ".jpg").toList());
+        when(tmdbClient.fetchRecommendations(eq(run + "detail"), eq(ContentType.SERIES)))
+                .thenReturn(upstream(run + "recommended-", size, null));
+    }
+
+    private void genre(long externalId, String name) {
+        if (genreRepository.findByExternalIdAndContentType(externalId, ContentType.SERIES).isEmpty()) {
+            genreRepository.save(Genre.builder()
+                    .externalId(externalId)
+                    .contentType(ContentType.SERIES)
+                    .name(name)
+                    .build());
+        }
+    }
+
+    private static List<ContentDto> upstream(String externalIdPrefix, int size, ContentLabel label) {
+        List<ContentDto> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ContentDto dto = new ContentDto();
+            dto.setExternalId(externalIdPrefix + i);
+            dto.setTitle("List benchmark " + externalIdPrefix + i);
+            dto.setType(ContentType.SERIES);
+            dto.setLabel(label);
+            dto.setGenreIds(List.of(GENRE_A, GENRE_B));
+            dto.setImageUrls(List.of("https://images.example/" + externalIdPrefix + i + ".jpg"));
+            dto.setRecommendedContentIds(List.of());
+            results.add(dto);
+        }
+        return results;
+    }
+
+    private record Measurement(int rows, int statements, double meanMs) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.discoverapp.controller;
+
+import com.discoverapp.PostgresIntegrationTest;
+import com.discoverapp.SqlStatementRecorder;
+import com.discoverapp.dto.ContentDto;
+import com.discoverapp.entity.Genre;
+import com.discoverapp.repository.GenreRepository;
+import com.discoverapp.types.ContentLabel;
+import com.discoverapp.types.ContentType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Fails when a content list endpoint issues queries per item instead of per request. Each endpoint is called
+ * once to store ITEMS upstream results (inserting new rows costs a statement per row by design), then measured
+ * on the second call with the second-level cache emptied, so lazy loads cannot hide behind cache hits.
+ * The budgets are far below ITEMS: a single per-item query blows them.
+ */
+@AutoConfigureMockMvc
+class ContentQueryCountTest extends PostgresIntegrationTest {
+    private static final int ITEMS = 30;
+    private static final long GENRE_A = 990_001L;
+    private static final long GENRE_B = 990_002L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        genre(GENRE_A, "Query Count A");
+        genre(GENRE_B, "Query Count B");
+        when(tmdbClient.fetchTrendingContent(ContentType.MOVIE))
+                .thenAnswer(invocation -> upstream("qc-trending-", ContentLabel.TRENDING));
+        when(tmdbClient.searchContent(anyString()))
+                .thenAnswer(invocation -> upstream("qc-search-", null));
+        when(tmdbClient.fetchContentList(ContentType.MOVIE))
+                .thenAnswer(invocation -> upstream("qc-list-", null));
+    }
+
+    @Test
+    void trendingQueriesDoNotGrowWithResults() throws Throwable {
+        // fetch log read and write, existing rows, trending list with genres, rating aggregates
+        assertStatementsAtMost("/api/content/trending/MOVIE", 6);
+    }
+
+    @Test
+    void searchQueriesDoNotGrowWithResults() throws Throwable {
+        // known external ids, results with genres, rating aggregates
+        assertStatementsAtMost("/api/content/search/MOVIE?query=query-count", 4);
+    }
+
+    @Test
+    void listQueriesDoNotGrowWithResults() throws Throwable {
+        // fetch log, list with genres, rating aggregates
+        assertStatementsAtMost("/api/content/movies", 4);
+    }
+
+    private void assertStatementsAtMost(String url, int budget) throws Throwable {
+        mockMvc.perform(get(url)).andExpect(status().isOk());
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+        List<String> statements = SqlStatementRecorder.record(() -> mockMvc.perform(get(url)).andExpect(status().isOk()));
+
+        assertThat(statements)
+                .as("SQL for GET %s:%n  %s", url, statements.stream().collect(Collectors.joining("\n  ")))
+                .hasSizeLessThanOrEqualTo(budget);
+    }
+
+    private void genre(long externalId, String name) {
+        if (genreRepository.findByExternalIdAndContentType(externalId, ContentType.MOVIE).isEmpty()) {
+            genreRepository.save(Genre.builder()
+                    .externalId(externalId)
+                    .contentType(ContentType.MOVIE)
+                    .name(name)
+                    .build());
+        }
+    }
+
+    private static List<ContentDto> upstream(String externalIdPrefix, ContentLabel label) {
+        List<ContentDto> results = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            ContentDto dto = new ContentDto();
+            dto.setExternalId(externalIdPrefix + i);
+            dto.setTitle("Query count " + externalIdPrefix + i);
+            dto.setType(ContentType.MOVIE);
+            dto.setLabel(label);
+            dto.setGenreIds(List.of(GENRE_A, GENRE_B));
+            dto.setImageUrls(List.of("https://images.example/" + i + ".jpg"));
+            dto.setRecommendedContentIds(List.of());
+            results.add(dto);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,212 @@
+package com.discoverapp.controller;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AppenderBase;
+import com.discoverapp.PostgresIntegrationTest;
+import com.discoverapp.entity.User;
+import com.discoverapp.repository.UserRepository;
+import com.discoverapp.service.AuthSessionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput of the watchlist and channel endpoints under CLIENTS concurrent clients for three logging setups:
+ * the default (INFO through the async appender), com.discoverapp at DEBUG through the async appender, and
+ * com.discoverapp at DEBUG written synchronously by the console appender on the request threads, the way
+ * System.out used to be. Each mode gets fresh users so the channel lists do not grow from one mode to the next.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = "rate-limit.enabled=false")
+class LoggingThroughputBenchmark extends PostgresIntegrationTest {
+    private static final int CLIENTS = 8;
+    private static final int REQUESTS = 800;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthSessionService authSessionService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private enum Mode {
+        INFO_ASYNC, DEBUG_ASYNC, DEBUG_SYNC
+    }
+
+    @Test
+    void watchlistAndChannelThroughput() throws Exception {
+        run(Mode.INFO_ASYNC); // warm-up
+        System.out.printf("%-12s %8s %10s %9s %14s   (%d clients, %d CPUs)%n", "mode", "requests", "wall ms",
+                "req/s", "events/request", CLIENTS, Runtime.getRuntime().availableProcessors());
+        for (Mode mode : Mode.values()) {
+            Result result = run(mode);
+            System.out.printf("%-12s %8d %10d %9.1f %14.1f%n", mode, REQUESTS, result.elapsedMs(),
+                    REQUESTS * 1000.0 / result.elapsedMs(), (double) result.events() / REQUESTS);
+        }
+    }
+
+    private Result run(Mode mode) throws Exception {
+        Workload workload = workload();
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger root = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        Logger app = loggerContext.getLogger("com.discoverapp");
+        Level appLevel = app.getLevel();
+        Appender<ILoggingEvent> async = root.getAppender("ASYNC_CONSOLE");
+        Appender<ILoggingEvent> console = ((AsyncAppender) async).getAppender("CONSOLE");
+        EventCounter events = new EventCounter();
+        events.setContext(loggerContext);
+        events.start();
+
+        if (mode != Mode.INFO_ASYNC) {
+            app.setLevel(Level.DEBUG);
+        }
+        if (mode == Mode.DEBUG_SYNC) {
+            root.detachAppender(async);
+            root.addAppender(console);
+        }
+        root.addAppender(events);
+        try {
+            long start = System.nanoTime();
+            fire(workload);
+            return new Result(Duration.ofNanos(System.nanoTime() - start).toMillis(), events.count.get());
+        } finally {
+            root.detachAppender(events);
+            if (mode == Mode.DEBUG_SYNC) {
+                root.detachAppender(console);
+                root.addAppender(async);
+            }
+            app.setLevel(appLevel);
+        }
+    }
+
+    // A quarter each: watchlist add (distinct content), channel create, channel join (distinct member), channel list
+    private void fire(Workload workload) throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<?>> done = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                done.add(clients.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < REQUESTS; i = next.getAndIncrement()) {
+                        HttpResponse<String> response = client.send(request(workload, i), HttpResponse.BodyHandlers.ofString());
+                        assertThat(response.statusCode()).as("request %d: %s", i, response.body()).isEqualTo(200);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : done) {
+                future.get();
+            }
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    private HttpRequest request(Workload workload, int i) {
+        return switch (i % 4) {
+            case 0 -> post("/api/watchlist/add", workload.ownerToken(),
+                    "{\"movieId\":" + workload.contentIds().get(i / 4) + ",\"status\":\"WATCHLIST\"}");
+            case 1 -> post("/api/channels/create", workload.ownerToken(), "{\"name\":\"Logging " + i + "\"}");
+            case 2 -> post("/api/channels/join/" + workload.channelId(), workload.memberTokens().get(i / 4), "");
+            default -> HttpRequest.newBuilder(uri("/api/channels"))
+                    .header("Authorization", "Bearer " + workload.ownerToken())
+                    .GET().build();
+        };
+    }
+
+    private HttpRequest post(String path, String token, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private Workload workload() throws Exception {
+        String run = "logbench-" + UUID.randomUUID().toString().substring(0, 8);
+        String ownerToken = authSessionService.startSession(user(run + "-owner")).getToken();
+        HttpResponse<String> channel = client.send(post("/api/channels/create", ownerToken, "{\"name\":\"" + run + "\"}"),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(channel.statusCode()).isEqualTo(200);
+        List<Long> contentIds = jdbcTemplate.queryForList("""
+                INSERT INTO content (title, type, label, external_id)
+                SELECT ? || '-' || i, 'MOVIE', 'CONTENT', ? || '-' || i FROM generate_series(1, ?) AS i
+                RETURNING id""", Long.class, run, run, REQUESTS / 4 + 1);
+        // one member per join: the same user joining concurrently races on the membership row
+        List<String> memberTokens = IntStream.rangeClosed(0, REQUESTS / 4)
+                .mapToObj(i -> authSessionService.startSession(user(run + "-member-" + i)).getToken())
+                .toList();
+        return new Workload(ownerToken, memberTokens, objectMapper.readTree(channel.body()).get("id").asLong(), contentIds);
+    }
+
+    private User user(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("not-used")
+                .roles(Set.of("ROLE_USER"))
+                .build());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static class EventCounter extends AppenderBase<ILoggingEvent> {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            count.incrementAndGet();
+        }
+    }
+
+    private record Workload(String ownerToken, List<String> memberTokens, Long channelId, List<Long> contentIds) {
+    }
+
+    private record Result(long elapsedMs, int events) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.discoverapp.controller;
+
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Requests run on Tomcat's platform worker pool, so at most TOMCAT_THREADS are in progress at once. */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadLoadBenchmark extends ThreadModelLoadBenchmark {
+
+    @Override
+    boolean supported() {
+        return true;
+    }
+
+    @Override
+    void assertPeak(int peak) {
+        assertThat(peak).isLessThanOrEqualTo(TOMCAT_THREADS);
+    }
+}
@@ -0,0 +1,152 @@
+package com.discoverapp.controller;
+
+import com.discoverapp.PostgresIntegrationTest;
+import com.discoverapp.dto.ContentDto;
+import com.discoverapp.entity.User;
+import com.discoverapp.repository.UserRepository;
+import com.discoverapp.service.AuthSessionService;
+import com.discoverapp.types.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Load comparison of the request thread models: REQUESTS details and recommendation calls are fired at once
+ * against Tomcat capped at TOMCAT_THREADS, while every upstream call (TMDB details, Gemini) blocks for
+ * UPSTREAM_LATENCY. The peak number of upstream calls in flight is how many requests the server really
+ * worked on concurrently. Subclasses pick the thread model; run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+        "server.tomcat.threads.max=" + ThreadModelLoadBenchmark.TOMCAT_THREADS,
+        "rate-limit.enabled=false",
+        "logging.level.root=WARN"
+})
+abstract class ThreadModelLoadBenchmark extends PostgresIntegrationTest {
+    static final int TOMCAT_THREADS = 20;
+    private static final int REQUESTS = 200;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(200);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthSessionService authSessionService;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        when(tmdbClient.fetchMovieDetails(anyString())).thenAnswer(invocation -> upstream(() -> {
+            ContentDto dto = new ContentDto();
+            dto.setExternalId(invocation.getArgument(0));
+            dto.setTitle("Load " + invocation.getArgument(0));
+            dto.setType(ContentType.MOVIE);
+            dto.setGenreIds(List.of());
+            dto.setImageUrls(List.of());
+            dto.setRecommendedContentIds(List.of());
+            return dto;
+        }));
+        when(geminiClient.getRecommendations(anyString(), any())).thenAnswer(invocation -> upstream(List::of));
+
+        String username = "load-" + UUID.randomUUID().toString().substring(0, 8);
+        User user = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("not-used")
+                .roles(Set.of("ROLE_USER"))
+                .build());
+        token = authSessionService.startSession(user).getToken();
+    }
+
+    /** Whether this thread model can run on the current JVM; the test is skipped otherwise. */
+    abstract boolean supported();
+
+    /** Asserts the thread model's expected bound on concurrent requests. */
+    abstract void assertPeak(int peak);
+
+    @Test
+    void concurrentDetailsAndRecommendations() {
+        assumeTrue(supported(), "thread model not available on this JVM");
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        fire(client); // warm-up, so the measured round does not pay for JIT and pool start-up
+        peakInFlight.set(0);
+        long start = System.nanoTime();
+        fire(client);
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        int peak = peakInFlight.get();
+        // wall time is only comparable between runs on the same machine: with few CPUs it is bound by request CPU
+        System.out.printf("%s: %d requests, tomcat threads.max %d, upstream latency %d ms, %d CPUs -> "
+                        + "peak concurrent %d, wall %d ms, %.1f req/s%n",
+                getClass().getSimpleName(), REQUESTS, TOMCAT_THREADS, UPSTREAM_LATENCY.toMillis(),
+                Runtime.getRuntime().availableProcessors(), peak, elapsedMs, REQUESTS * 1000.0 / elapsedMs);
+        assertPeak(peak);
+    }
+
+    private void fire(HttpClient client) {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            HttpRequest request = i % 2 == 0
+                    ? HttpRequest.newBuilder(uri("/api/content/details/load-" + run + "-" + i + "?type=MOVIE")).GET().build()
+                    : HttpRequest.newBuilder(uri("/api/recommendations"))
+                            .header("Authorization", "Bearer " + token)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString("{\"description\":\"load\",\"contentType\":\"MOVIE\"}"))
+                            .build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+        assertThat(responses).allSatisfy(response -> assertThat(response.join().statusCode()).isEqualTo(200));
+    }
+
+    private <T> T upstream(Supplier<T> result) throws InterruptedException {
+        int current = inFlight.incrementAndGet();
+        peakInFlight.accumulateAndGet(current, Math::max);
+        try {
+            Thread.sleep(UPSTREAM_LATENCY.toMillis());
+            return result.get();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
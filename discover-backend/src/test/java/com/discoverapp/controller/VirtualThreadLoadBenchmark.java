@@ -0,0 +1,23 @@
+package com.discoverapp.controller;
+
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Requests run on a virtual thread each, so threads.max no longer bounds them: a blocked upstream call
+ * unmounts its thread and the next request proceeds. Needs Java 21.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadLoadBenchmark extends ThreadModelLoadBenchmark {
+
+    @Override
+    boolean supported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    @Override
+    void assertPeak(int peak) {
+        assertThat(peak).isGreaterThan(TOMCAT_THREADS);
+    }
+}
@@ -0,0 +1,228 @@
+package com.discoverapp.repository;
+
+import com.discoverapp.PostgresIntegrationTest;
+import com.discoverapp.SqlStatementRecorder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every query method declared in repository/ against the migrated schema, records the SQL Hibernate
+ * prepares for it and EXPLAINs that SQL with sequential scans disabled. A Seq Scan that survives
+ * enable_seqscan = off means no index can serve the predicate, so the test fails with the offending plan.
+ * Only the SQL is checked, not the data: arguments are placeholders and the work is rolled back.
+ */
+class RepositoryIndexUsageTest extends PostgresIntegrationTest {
+
+    // Queries that read a whole table by design; anything else needs an index
+    private static final Map<String, String> FULL_SCAN_ALLOWED = Map.of(
+            "ChannelRepository.findAllRetentionPolicies", "the nightly retention job visits every channel",
+            "ChannelReadStateRepository.findAllChannelsWithReadState", "the channel sidebar lists every channel");
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TestFactory
+    Stream<DynamicTest> everyRepositoryQueryUsesAnIndex() {
+        return repositoryInterfaces().stream()
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                        .filter(method -> !method.isDefault() && !method.isSynthetic())
+                        .sorted(Comparator.comparing(Method::getName))
+                        .map(method -> DynamicTest.dynamicTest(
+                                repository.getSimpleName() + "." + method.getName(),
+                                () -> assertUsesIndexes(repository, method))));
+    }
+
+    private void assertUsesIndexes(Class<?> repository, Method method) throws Exception {
+        List<String> statements = recordStatements(applicationContext.getBean(repository), method);
+        assertThat(statements)
+                .as("SQL recorded for %s.%s", repository.getSimpleName(), method.getName())
+                .isNotEmpty();
+
+        String key = repository.getSimpleName() + "." + method.getName();
+        for (String sql : statements) {
+            List<String> seqScans = seqScans(explain(sql)); // still planned when allowed, so the SQL stays valid
+            if (FULL_SCAN_ALLOWED.containsKey(key)) {
+                continue;
+            }
+            assertThat(seqScans)
+                    .as("Sequential scans in %s%n  %s", key, sql)
+                    .isEmpty();
+        }
+    }
+
+    // Invokes the method in a transaction that is always rolled back. Failures at execution time (constraint
+    // violations on placeholder ids, empty results) are irrelevant: the SQL was recorded when it was prepared.
+    private List<String> recordStatements(Object repository, Method method) {
+        // A second-level or query cache hit would skip the SQL
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        Object[] args = Arrays.stream(method.getGenericParameterTypes()).map(this::placeholder).toArray();
+        SqlStatementRecorder.start();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                try {
+                    method.invoke(repository, args);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                } catch (InvocationTargetException e) {
+                    // see above
+                }
+            });
+        } catch (RuntimeException e) {
+            // rollback of a transaction that failed inside the repository call
+        }
+        return SqlStatementRecorder.stop().stream()
+                .filter(sql -> sql.trim().toLowerCase().matches("(?s)(select|insert|update|delete|with)\\b.*"))
+                .toList();
+    }
+
+    // EXPLAIN with $n parameters must go over the simple query protocol: through the extended protocol the
+    // server expects values for them ("bind message supplies 0 parameters")
+    private JsonNode explain(String sql) throws SQLException {
+        String url = POSTGRES.getJdbcUrl("postgres", "postgres") + "&preferQueryMode=simple";
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+            try (ResultSet plan = statement.executeQuery("EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + numberParameters(sql))) {
+                plan.next();
+                return objectMapper.readTree(plan.getString(1)).get(0).get("Plan");
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Unreadable plan for " + sql, e);
+            }
+        }
+    }
+
+    private List<String> seqScans(JsonNode plan) {
+        List<String> found = new ArrayList<>();
+        collectSeqScans(plan, found);
+        return found;
+    }
+
+    private void collectSeqScans(JsonNode node, List<String> found) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            found.add("Seq Scan on " + node.path("Relation Name").asText()
+                    + (node.has("Filter") ? " (filter: " + node.get("Filter").asText() + ")" : ""));
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(child, found);
+        }
+    }
+
+    // JDBC placeholders become $1..$n so EXPLAIN GENERIC_PLAN can plan the statement without values
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        boolean quoted = false;
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c == '?' && !quoted) {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    private Object placeholder(Type type) {
+        if (type instanceof ParameterizedType parameterized) {
+            Class<?> raw = (Class<?>) parameterized.getRawType();
+            Object element = placeholder(parameterized.getActualTypeArguments()[0]);
+            if (Set.class.isAssignableFrom(raw)) {
+                return Set.of(element);
+            }
+            if (Collection.class.isAssignableFrom(raw)) {
+                return List.of(element);
+            }
+            throw new IllegalArgumentException("No placeholder for " + type);
+        }
+        Class<?> cls = (Class<?>) type;
+        if (cls.isArray()) {
+            Object array = Array.newInstance(cls.getComponentType(), 1);
+            Array.set(array, 0, placeholder(cls.getComponentType()));
+            return array;
+        }
+        if (cls == Long.class || cls == long.class) {
+            return 1L;
+        }
+        if (cls == Integer.class || cls == int.class) {
+            return 1;
+        }
+        if (cls == Double.class || cls == double.class) {
+            return 1.0;
+        }
+        if (cls == Boolean.class || cls == boolean.class) {
+            return true;
+        }
+        if (cls == String.class) {
+            return "placeholder";
+        }
+        if (cls == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (cls == Pageable.class) {
+            return PageRequest.of(0, 20);
+        }
+        if (cls.isEnum()) {
+            return cls.getEnumConstants()[0];
+        }
+        throw new IllegalArgumentException("No placeholder for " + type);
+    }
+
+    private List<Class<?>> repositoryInterfaces() {
+        Repositories repositories = new Repositories(applicationContext);
+        List<Class<?>> interfaces = new ArrayList<>();
+        for (Class<?> domainType : repositories) {
+            repositories.getRepositoryInformationFor(domainType)
+                    .map(RepositoryInformation::getRepositoryInterface)
+                    .ifPresent(interfaces::add);
+        }
+        interfaces.sort(Comparator.comparing(Class::getSimpleName));
+        return interfaces;
+    }
+}
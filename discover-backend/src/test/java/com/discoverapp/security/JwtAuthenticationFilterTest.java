@@ -0,0 +1,94 @@
+package com.discoverapp.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+    private static final long HOUR_MS = 3_600_000;
+
+    private final JwtUtil jwtUtil = JwtUtilTest.jwtUtil(JwtUtilTest.SECRET, HOUR_MS);
+    private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+    private final UserStatusCache userStatusCache = mock(UserStatusCache.class);
+    private final SessionRevocationList sessionRevocationList = mock(SessionRevocationList.class);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "userDetailsService", userDetailsService);
+        ReflectionTestUtils.setField(filter, "userStatusCache", userStatusCache);
+        ReflectionTestUtils.setField(filter, "verifiedTokenCache", new VerifiedTokenCache(new SimpleMeterRegistry(), 10, HOUR_MS));
+        ReflectionTestUtils.setField(filter, "sessionRevocationList", sessionRevocationList);
+        when(userStatusCache.isActive(any())).thenReturn(true);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void tokensWithRolesAuthenticateWithoutTheDatabase() throws Exception {
+        Authentication auth = authenticate(jwtUtil.generateToken("alice", 7L, List.of("ROLE_USER"), "sid-1"));
+
+        assertThat(auth.getPrincipal()).isInstanceOfSatisfying(AuthenticatedUser.class, user -> {
+            assertThat(user.getUserId()).isEqualTo(7L);
+            assertThat(user.getSessionId()).isEqualTo("sid-1");
+        });
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void legacyTokensFallBackToTheUserDetailsService() throws Exception {
+        User alice = new User("alice", "not-used", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        when(userDetailsService.loadUserByUsername("alice")).thenReturn(alice);
+
+        Authentication auth = authenticate(jwtUtil.generateToken("alice", 7L));
+
+        assertThat(auth.getPrincipal()).isSameAs(alice);
+        assertThat(auth.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void legacyTokensOfDeletedUsersDoNotAuthenticate() throws Exception {
+        when(userDetailsService.loadUserByUsername("gone")).thenThrow(new UsernameNotFoundException("gone"));
+
+        assertThat(authenticate(jwtUtil.generateToken("gone", 7L))).isNull();
+    }
+
+    @Test
+    void revokedSessionsDoNotAuthenticate() throws Exception {
+        when(sessionRevocationList.isRevokedInStore("sid-1")).thenReturn(true);
+
+        assertThat(authenticate(jwtUtil.generateToken("alice", 7L, List.of("ROLE_USER"), "sid-1"))).isNull();
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/watchlist");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,70 @@
+package com.discoverapp.security;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilTest {
+    static final String SECRET = "unit-test-secret-unit-test-secret-unit-test";
+
+    @Test
+    void principalComesFromTheClaims() {
+        JwtUtil jwtUtil = jwtUtil(SECRET, 60_000);
+
+        Claims claims = jwtUtil.parseToken(jwtUtil.generateToken("alice", 7L, List.of("ROLE_USER", "ROLE_ADMIN"), "sid-1"));
+        AuthenticatedUser principal = jwtUtil.toPrincipal(claims);
+
+        assertThat(principal.getUsername()).isEqualTo("alice");
+        assertThat(principal.getUserId()).isEqualTo(7L);
+        assertThat(principal.getSessionId()).isEqualTo("sid-1");
+        assertThat(principal.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    void emptyRolesStillMakeAPrincipal() {
+        JwtUtil jwtUtil = jwtUtil(SECRET, 60_000);
+
+        AuthenticatedUser principal = jwtUtil.toPrincipal(jwtUtil.parseToken(jwtUtil.generateToken("alice", 7L, List.of())));
+
+        assertThat(principal.getAuthorities()).isEmpty();
+        assertThat(principal.getSessionId()).isNull();
+    }
+
+    @Test
+    void legacyTokensWithoutRolesHaveNoPrincipal() {
+        JwtUtil jwtUtil = jwtUtil(SECRET, 60_000);
+
+        assertThat(jwtUtil.toPrincipal(jwtUtil.parseToken(jwtUtil.generateToken("alice", 7L)))).isNull();
+        assertThat(jwtUtil.toPrincipal(jwtUtil.parseToken(jwtUtil.generateToken("alice")))).isNull();
+    }
+
+    @Test
+    void invalidTokensDoNotParse() {
+        JwtUtil jwtUtil = jwtUtil(SECRET, 60_000);
+        String token = jwtUtil.generateToken("alice", 7L, List.of("ROLE_USER"));
+        String otherKey = jwtUtil("another-secret-another-secret-another-secret", 60_000)
+                .generateToken("alice", 7L, List.of("ROLE_ADMIN"));
+        String expired = jwtUtil(SECRET, -1_000).generateToken("alice", 7L, List.of("ROLE_USER"));
+
+        assertThat(jwtUtil.parseToken(token)).isNotNull();
+        assertThat(jwtUtil.parseToken(token.substring(0, token.length() - 2) + "xx")).isNull();
+        assertThat(jwtUtil.parseToken(otherKey)).isNull();
+        assertThat(jwtUtil.parseToken(expired)).isNull();
+        assertThat(jwtUtil.parseToken("not-a-token")).isNull();
+        assertThat(jwtUtil.parseToken("")).isNull();
+    }
+
+    static JwtUtil jwtUtil(String secret, long expirationMs) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", secret);
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpirationMs", expirationMs);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
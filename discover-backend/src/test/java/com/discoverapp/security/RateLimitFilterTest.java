@@ -0,0 +1,136 @@
+package com.discoverapp.security;
+
+import com.discoverapp.config.RateLimitingConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+    // Long enough that nothing refills while a test runs
+    private static final long PERIOD_SECONDS = 3600;
+
+    private final RateLimitingConfig config = new RateLimitingConfig();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RateLimitFilter filter = new RateLimitFilter();
+
+    @BeforeEach
+    void setUp() {
+        config.setAuthenticated(new RateLimitingConfig.Limit(20, PERIOD_SECONDS));
+        config.setAnonymous(new RateLimitingConfig.Limit(10, PERIOD_SECONDS));
+        Map<String, Integer> costs = new LinkedHashMap<>();
+        costs.put("/api/content/details/**", 4);
+        costs.put("/api/content/**", 2);
+        config.setCosts(costs);
+        ReflectionTestUtils.setField(filter, "config", config);
+        ReflectionTestUtils.setField(filter, "store", new InMemoryRateLimitStore(600));
+        ReflectionTestUtils.setField(filter, "meterRegistry", registry);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void allowedResponsesCarryTheRateLimitHeaders() throws Exception {
+        MockHttpServletResponse response = send("GET", "/api/watchlist", "10.0.0.1");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("RateLimit-Limit")).isEqualTo("10");
+        assertThat(response.getHeader("RateLimit-Remaining")).isEqualTo("9");
+        // one token short of full refills in a tenth of the period
+        assertThat(response.getHeader("RateLimit-Reset")).isEqualTo("360");
+        assertThat(response.getHeader("Retry-After")).isNull();
+    }
+
+    @Test
+    void firstMatchingCostPatternWins() throws Exception {
+        assertThat(send("GET", "/api/content/details/42", "10.0.0.1").getHeader("RateLimit-Remaining")).isEqualTo("6");
+        assertThat(send("GET", "/api/content/search/MOVIE", "10.0.0.1").getHeader("RateLimit-Remaining")).isEqualTo("4");
+        assertThat(send("GET", "/api/channels", "10.0.0.1").getHeader("RateLimit-Remaining")).isEqualTo("3");
+    }
+
+    @Test
+    void exhaustedBucketsAnswer429WithRetryAfter() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            send("GET", "/api/content/details/" + i, "10.0.0.1");
+        }
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = send("GET", "/api/content/details/3", "10.0.0.1", chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getHeader("RateLimit-Remaining")).isEqualTo("2");
+        // two missing tokens at 10 per hour
+        assertThat(Long.parseLong(response.getHeader("Retry-After"))).isBetween(719L, 721L);
+        assertThat(registry.counter("api.rate_limited", "subject", "ip").count()).isEqualTo(1);
+        // a cheaper request still fits in what is left
+        assertThat(send("GET", "/api/content/search/MOVIE", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void anonymousCallersAreLimitedPerIp() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            send("GET", "/api/channels", "10.0.0.1");
+        }
+
+        assertThat(send("GET", "/api/channels", "10.0.0.1").getStatus()).isEqualTo(429);
+        assertThat(send("GET", "/api/channels", "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void authenticatedCallersShareOneBucketAcrossAddresses() throws Exception {
+        authenticateAs("alice");
+
+        MockHttpServletResponse first = send("GET", "/api/channels", "10.0.0.1");
+        MockHttpServletResponse second = send("GET", "/api/channels", "10.0.0.2");
+
+        assertThat(first.getHeader("RateLimit-Limit")).isEqualTo("20");
+        assertThat(first.getHeader("RateLimit-Remaining")).isEqualTo("19");
+        assertThat(second.getHeader("RateLimit-Remaining")).isEqualTo("18");
+    }
+
+    @Test
+    void preflightNonApiAndDisabledRequestsAreNotCounted() throws Exception {
+        assertThat(send("OPTIONS", "/api/channels", "10.0.0.1").getHeader("RateLimit-Limit")).isNull();
+        assertThat(send("GET", "/actuator/health", "10.0.0.1").getHeader("RateLimit-Limit")).isNull();
+        config.setEnabled(false);
+        assertThat(send("GET", "/api/channels", "10.0.0.1").getHeader("RateLimit-Limit")).isNull();
+        config.setEnabled(true);
+
+        assertThat(send("GET", "/api/channels", "10.0.0.1").getHeader("RateLimit-Remaining")).isEqualTo("9");
+    }
+
+    private void authenticateAs(String username) {
+        AuthenticatedUser user = new AuthenticatedUser(1L, username, "sid", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private MockHttpServletResponse send(String method, String path, String remoteAddr) throws Exception {
+        return send(method, path, remoteAddr, new MockFilterChain());
+    }
+
+    private MockHttpServletResponse send(String method, String path, String remoteAddr, MockFilterChain chain)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,69 @@
+package com.discoverapp.security;
+
+import com.discoverapp.repository.RefreshSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SessionRevocationListTest {
+
+    private final RefreshSessionRepository refreshSessionRepository = mock(RefreshSessionRepository.class);
+    private SessionRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = new SessionRevocationList(1000, 0.001);
+        ReflectionTestUtils.setField(revocationList, "refreshSessionRepository", refreshSessionRepository);
+    }
+
+    @Test
+    void cachedCheckSkipsTheDatabaseForUnknownSessions() {
+        assertThat(revocationList.isRevoked("live-session")).isFalse();
+
+        verify(refreshSessionRepository, never()).existsBySessionId(anyString());
+    }
+
+    @Test
+    void cachedCheckConfirmsLocalRevocationsAgainstTheDatabase() {
+        revocationList.revoke("logged-out");
+
+        assertThat(revocationList.isRevoked("logged-out")).isTrue();
+    }
+
+    @Test
+    void cachedCheckIgnoresFalsePositivesForLiveSessions() {
+        revocationList.revoke("reused");
+        when(refreshSessionRepository.existsBySessionId("reused")).thenReturn(true);
+
+        assertThat(revocationList.isRevoked("reused")).isFalse();
+    }
+
+    @Test
+    void revocationSurvivesOneRotationButNotTwo() {
+        revocationList.revoke("logged-out");
+
+        revocationList.rotate();
+        assertThat(revocationList.isRevoked("logged-out")).isTrue();
+
+        revocationList.rotate();
+        assertThat(revocationList.isRevoked("logged-out")).isFalse();
+    }
+
+    @Test
+    void storeCheckSeesRevocationsThisNodeNeverRecorded() {
+        // Another node logged the session out, or this node restarted since: the filters are empty
+        when(refreshSessionRepository.existsBySessionId("revoked-elsewhere")).thenReturn(false);
+        when(refreshSessionRepository.existsBySessionId("live-session")).thenReturn(true);
+
+        assertThat(revocationList.isRevokedInStore("revoked-elsewhere")).isTrue();
+        assertThat(revocationList.isRevokedInStore("live-session")).isFalse();
+        assertThat(revocationList.isRevokedInStore(null)).isFalse();
+    }
+}
@@ -0,0 +1,62 @@
+package com.discoverapp.security;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request authentication cost with and without the verified-token cache: a cache hit (SHA-256 of the token
+ * plus a map lookup) against full HS256 verification and claim parsing.
+ * Not a test: run on demand with
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main VerifiedTokenCacheBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VerifiedTokenCacheBenchmark {
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache cache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", "benchmark-secret-benchmark-secret-benchmark");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpirationMs", 900_000L);
+        jwtUtil.init();
+        token = jwtUtil.generateToken("bench", 1L, List.of("ROLE_USER"), "bench-session");
+
+        cache = new VerifiedTokenCache(new SimpleMeterRegistry(), 10_000, 3_600_000);
+        Claims claims = jwtUtil.parseToken(token);
+        cache.put(token, jwtUtil.toPrincipal(claims), claims.getExpiration());
+    }
+
+    @Benchmark
+    public UserDetails cacheHit() {
+        return cache.get(token);
+    }
+
+    @Benchmark
+    public UserDetails fullVerification() {
+        return jwtUtil.toPrincipal(jwtUtil.parseToken(token));
+    }
+}
@@ -0,0 +1,95 @@
+package com.discoverapp.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+    private static final long HOUR_MS = 3_600_000;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void returnsThePrincipalOfAVerifiedToken() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(registry, 10, HOUR_MS);
+        UserDetails alice = principal("alice");
+
+        cache.put("token-a", alice, inMillis(HOUR_MS));
+
+        assertThat(cache.get("token-a")).isSameAs(alice);
+        assertThat(cache.get("token-b")).isNull();
+        assertThat(registry.counter("jwt.token.cache", "result", "hit").count()).isEqualTo(1);
+        assertThat(registry.counter("jwt.token.cache", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    void entriesExpireWithTheirToken() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(registry, 10, HOUR_MS);
+
+        cache.put("expired", principal("alice"), inMillis(-1));
+
+        assertThat(cache.get("expired")).isNull();
+    }
+
+    @Test
+    void entriesExpireAfterMaxAgeEvenIfTheTokenLivesLonger() throws InterruptedException {
+        VerifiedTokenCache cache = new VerifiedTokenCache(registry, 10, 20);
+
+        cache.put("token", principal("alice"), inMillis(HOUR_MS));
+        assertThat(cache.get("token")).isNotNull();
+
+        Thread.sleep(40);
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void tokensWithoutExpiryAreNeverCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(registry, 10, HOUR_MS);
+
+        cache.put("token", principal("alice"), null);
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void staysWithinMaxEntries() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(registry, 2, HOUR_MS);
+
+        cache.put("token-1", principal("a"), inMillis(HOUR_MS));
+        cache.put("token-2", principal("b"), inMillis(HOUR_MS));
+        cache.put("token-3", principal("c"), inMillis(HOUR_MS));
+
+        assertThat(cache.get("token-1")).isNotNull();
+        assertThat(cache.get("token-2")).isNotNull();
+        assertThat(cache.get("token-3")).isNull();
+        assertThat(registry.get("jwt.token.cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void expiredEntriesMakeRoomWhenFull() throws InterruptedException {
+        VerifiedTokenCache cache = new VerifiedTokenCache(registry, 2, HOUR_MS);
+        cache.put("short-1", principal("a"), inMillis(10));
+        cache.put("short-2", principal("b"), inMillis(10));
+
+        Thread.sleep(30);
+        cache.put("token-3", principal("c"), inMillis(HOUR_MS));
+
+        assertThat(cache.get("token-3")).isNotNull();
+        assertThat(registry.get("jwt.token.cache.size").gauge().value()).isEqualTo(1);
+    }
+
+    private static UserDetails principal(String username) {
+        return new AuthenticatedUser(1L, username, "session-" + username, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    private static Date inMillis(long millis) {
+        return new Date(System.currentTimeMillis() + millis);
+    }
+}
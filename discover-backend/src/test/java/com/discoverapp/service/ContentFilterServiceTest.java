@@ -0,0 +1,75 @@
+package com.discoverapp.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentFilterServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private Path wordsFile;
+    private ContentFilterService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        wordsFile = dir.resolve("words.txt");
+        Files.writeString(wordsFile, "scam\n# comment\n");
+        service = new ContentFilterService();
+        // Rebuild inline so the new matcher is in place when updateWords returns
+        ReflectionTestUtils.setField(service, "contentFilterExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(service, "configuredWords", "spam, ");
+        ReflectionTestUtils.setField(service, "wordsFile", wordsFile.toString());
+        service.init();
+    }
+
+    @Test
+    void initMergesConfiguredAndFileWords() {
+        assertThat(service.getWords()).containsExactly("spam", "scam");
+        assertThat(service.isBlocked("total scam")).isTrue();
+    }
+
+    @Test
+    void updateKeepsConfiguredAndFileWords() {
+        service.updateWords(List.of(" phish ", "phish", ""));
+
+        assertThat(service.getWords()).containsExactly("spam", "scam", "phish");
+        assertThat(service.isBlocked("spam")).isTrue();
+        assertThat(service.isBlocked("phish")).isTrue();
+    }
+
+    @Test
+    void fileReloadKeepsRuntimeWords() throws Exception {
+        service.updateWords(List.of("phish"));
+        Files.writeString(wordsFile, "fraud\n");
+        Files.setLastModifiedTime(wordsFile, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+        service.reloadWordsFileIfChanged();
+
+        assertThat(service.getWords()).containsExactly("spam", "fraud", "phish");
+        assertThat(service.isBlocked("phish")).isTrue();
+        assertThat(service.isBlocked("fraud")).isTrue();
+        assertThat(service.isBlocked("scam")).isFalse();
+    }
+
+    @Test
+    void unchangedFileIsNotReloaded() throws Exception {
+        FileTime before = Files.getLastModifiedTime(wordsFile);
+        Files.writeString(wordsFile, "fraud\n");
+        Files.setLastModifiedTime(wordsFile, before);
+
+        service.reloadWordsFileIfChanged();
+
+        assertThat(service.getWords()).containsExactly("spam", "scam");
+    }
+}
@@ -0,0 +1,75 @@
+package com.discoverapp.service;
+
+import com.discoverapp.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleServiceTest {
+    private SimpleMeterRegistry meterRegistry;
+    private LoginThrottleService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new LoginThrottleService();
+        ReflectionTestUtils.setField(service, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(service, "ipCapacity", 3L);
+        ReflectionTestUtils.setField(service, "ipPeriodSeconds", 60L);
+        ReflectionTestUtils.setField(service, "usernameCapacity", 2L);
+        ReflectionTestUtils.setField(service, "usernamePeriodSeconds", 300L);
+        ReflectionTestUtils.setField(service, "accountCapacity", 5L);
+        ReflectionTestUtils.setField(service, "accountPeriodSeconds", 3600L);
+        service.init();
+    }
+
+    @Test
+    void ipLimitCountsEveryAttempt() {
+        for (int i = 0; i < 3; i++) {
+            service.checkIp("10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> service.checkIp("10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .satisfies(e -> assertThat(
+                        ((TooManyRequestsException) e).getRetryAfterSeconds()).isPositive());
+        assertThatCode(() -> service.checkIp("10.0.0.2")).doesNotThrowAnyException();
+        assertThat(meterRegistry.counter("auth.throttled", "key", "ip").count()).isEqualTo(1);
+    }
+
+    @Test
+    void successfulLoginsCostNothing() {
+        assertThatCode(() -> {
+            for (int i = 0; i < 10; i++) {
+                service.checkUsername("10.0.0.1", "alice");
+            }
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    void failedLoginsLockTheUsernameForThatIpOnly() {
+        service.recordFailedLogin("10.0.0.1", "alice");
+        service.recordFailedLogin("10.0.0.1", "Alice");
+
+        assertThatThrownBy(() -> service.checkUsername("10.0.0.1", "ALICE")).isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> service.checkUsername("10.0.0.2", "alice")).doesNotThrowAnyException();
+        assertThatCode(() -> service.checkUsername("10.0.0.1", "bob")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void failuresSpreadOverManyIpsHitTheAccountLimit() {
+        for (int i = 0; i < 5; i++) {
+            service.recordFailedLogin("10.0.1." + i, "alice");
+        }
+
+        // no single IP is over its own limit, but the account is
+        assertThatThrownBy(() -> service.checkUsername("10.0.2.1", "alice")).isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> service.checkUsername("10.0.2.1", "bob")).doesNotThrowAnyException();
+        assertThat(meterRegistry.counter("auth.throttled", "key", "account").count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,50 @@
+package com.discoverapp.service;
+
+import com.discoverapp.PostgresIntegrationTest;
+import com.discoverapp.entity.Message;
+import com.discoverapp.repository.MessageRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageModerationServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private MessageModerationService messageModerationService;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Test
+    void sweepRequeuesMessagesLeftPending() throws InterruptedException {
+        // as if the queue had dropped it, or the node had restarted before the worker got to it
+        Long stale = pendingMessage(LocalDateTime.now().minusMinutes(5));
+        Long fresh = pendingMessage(LocalDateTime.now());
+
+        messageModerationService.sweep();
+
+        assertThat(awaitClassified(stale)).isTrue();
+        assertThat(messageRepository.findById(fresh).orElseThrow().isModerationPending()).isTrue();
+    }
+
+    private Long pendingMessage(LocalDateTime createdAt) {
+        return messageRepository.save(Message.builder()
+                .content("an ordinary message")
+                .createdAt(createdAt)
+                .moderationPending(true)
+                .build()).getId();
+    }
+
+    private boolean awaitClassified(Long messageId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (!messageRepository.findById(messageId).orElseThrow().isModerationPending()) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+}
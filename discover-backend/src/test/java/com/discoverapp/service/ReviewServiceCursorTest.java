@@ -0,0 +1,127 @@
+package com.discoverapp.service;
+
+import com.discoverapp.dto.ReviewPageDto;
+import com.discoverapp.entity.Review;
+import com.discoverapp.repository.ReviewRepository;
+import com.discoverapp.types.ReviewSort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewServiceCursorTest {
+    private static final Long CONTENT_ID = 42L;
+    private static final int SIZE = 3;
+    private static final PageRequest PAGE = PageRequest.of(0, SIZE + 1);
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 5, 6, 7, 8, 9, 123_456_000);
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @InjectMocks
+    private ReviewService reviewService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reviewService, "defaultPageSize", 20);
+    }
+
+    @Test
+    void newestCursorResumesAfterTheLastCreatedAtAndId() {
+        when(reviewRepository.findNewest(CONTENT_ID, PAGE)).thenReturn(reviews(SIZE + 1));
+
+        String cursor = firstPage(ReviewSort.NEWEST).getNextCursor();
+        reviewService.listReviews(CONTENT_ID, ReviewSort.NEWEST, cursor, SIZE);
+
+        verify(reviewRepository).findNewestAfter(CONTENT_ID, CREATED_AT.minusMinutes(3), 3L, PAGE);
+    }
+
+    @Test
+    void highestCursorResumesAfterTheLastRatingAndId() {
+        when(reviewRepository.findHighest(CONTENT_ID, PAGE)).thenReturn(reviews(SIZE + 1));
+
+        String cursor = firstPage(ReviewSort.HIGHEST).getNextCursor();
+        reviewService.listReviews(CONTENT_ID, ReviewSort.HIGHEST, cursor, SIZE);
+
+        verify(reviewRepository).findHighestAfter(CONTENT_ID, 6.5, 3L, PAGE);
+    }
+
+    @Test
+    void helpfulCursorResumesAfterTheLastHelpfulCountAndId() {
+        when(reviewRepository.findMostHelpful(CONTENT_ID, PAGE)).thenReturn(reviews(SIZE + 1));
+
+        String cursor = firstPage(ReviewSort.HELPFUL).getNextCursor();
+        reviewService.listReviews(CONTENT_ID, ReviewSort.HELPFUL, cursor, SIZE);
+
+        verify(reviewRepository).findMostHelpfulAfter(CONTENT_ID, 10, 3L, PAGE);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        when(reviewRepository.findNewest(CONTENT_ID, PAGE)).thenReturn(reviews(SIZE));
+
+        ReviewPageDto page = firstPage(ReviewSort.NEWEST);
+
+        assertThat(page.getReviews()).hasSize(SIZE);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void cursorOfAnotherSortIsRejected() {
+        when(reviewRepository.findNewest(CONTENT_ID, PAGE)).thenReturn(reviews(SIZE + 1));
+        String newestCursor = firstPage(ReviewSort.NEWEST).getNextCursor();
+
+        assertRejected(ReviewSort.HIGHEST, newestCursor);
+    }
+
+    @Test
+    void malformedCursorsAreRejected() {
+        assertRejected(ReviewSort.NEWEST, "not base64!");
+        assertRejected(ReviewSort.NEWEST, encode("NEWEST|1"));
+        assertRejected(ReviewSort.NEWEST, encode("NEWEST|yesterday|1"));
+        assertRejected(ReviewSort.HIGHEST, encode("HIGHEST|high|1"));
+        assertRejected(ReviewSort.HELPFUL, encode("HELPFUL|3|last"));
+    }
+
+    private ReviewPageDto firstPage(ReviewSort sort) {
+        return reviewService.listReviews(CONTENT_ID, sort, null, SIZE);
+    }
+
+    private void assertRejected(ReviewSort sort, String cursor) {
+        assertThatThrownBy(() -> reviewService.listReviews(CONTENT_ID, sort, cursor, SIZE))
+                .as(cursor)
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // Review i was created i minutes before CREATED_AT, rated 8 - i/2 and found helpful 40 - 10i times
+    private static List<Review> reviews(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(i -> Review.builder()
+                        .id(i)
+                        .createdAt(CREATED_AT.minusMinutes(i))
+                        .rating(8 - i / 2.0)
+                        .helpfulCount((int) (40 - 10 * i))
+                        .build())
+                .toList();
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,157 @@
+package com.discoverapp.service;
+
+import com.discoverapp.PostgresIntegrationTest;
+import com.discoverapp.dto.CreateReviewRequest;
+import com.discoverapp.dto.ReviewDto;
+import com.discoverapp.dto.ReviewPageDto;
+import com.discoverapp.entity.ContentRatingAggregate;
+import com.discoverapp.entity.User;
+import com.discoverapp.repository.ContentRatingAggregateRepository;
+import com.discoverapp.repository.UserRepository;
+import com.discoverapp.types.ReviewSort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ReviewServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ContentRatingAggregateRepository ratingAggregateRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String prefix;
+    private Long contentId;
+
+    @BeforeEach
+    void setUp() {
+        prefix = "review-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        contentId = jdbcTemplate.queryForObject(
+                "INSERT INTO content (title, type, label, external_id) VALUES (?, 'MOVIE', 'CONTENT', ?) RETURNING id",
+                Long.class, prefix + "title", prefix + "content");
+    }
+
+    @Test
+    void applyDeltaCountsIntoTheOneBasedBucket() {
+        applyDelta(1, 7.0, 8);
+        applyDelta(1, 0.0, 1);
+        applyDelta(1, 10.0, 11);
+        applyDelta(1, 7.0, 8);
+
+        ContentRatingAggregate aggregate = aggregate();
+        assertThat(aggregate.getReviewCount()).isEqualTo(4);
+        assertThat(aggregate.getRatingSum()).isEqualTo(24.0);
+        assertThat(aggregate.getHistogram()).containsExactly(1, 0, 0, 0, 0, 0, 0, 2, 0, 0, 1);
+    }
+
+    @Test
+    void negativeDeltaUndoesOnlyItsBucket() {
+        applyDelta(1, 3.0, 4);
+        applyDelta(1, 9.0, 10);
+        applyDelta(-1, -3.0, 4);
+
+        ContentRatingAggregate aggregate = aggregate();
+        assertThat(aggregate.getReviewCount()).isEqualTo(1);
+        assertThat(aggregate.getRatingSum()).isEqualTo(9.0);
+        assertThat(aggregate.getHistogram()).containsExactly(0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 0);
+    }
+
+    @Test
+    void reviewsAreCountedUnderTheirRoundedRating() {
+        String username = user("rater");
+        review(username, 0.0);
+        review(username, 4.6);
+        review(username, 10.0);
+        ReviewDto removed = review(username, 4.4);
+        review(username, null);
+
+        reviewService.deleteReview(removed.getId());
+
+        ContentRatingAggregate aggregate = aggregate();
+        assertThat(aggregate.getReviewCount()).isEqualTo(3);
+        assertThat(aggregate.getRatingSum()).isCloseTo(14.6, within(1e-9));
+        assertThat(aggregate.getHistogram()).containsExactly(1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1);
+    }
+
+    @Test
+    void keysetPagesWalkEachSortWithoutGapsOrRepeats() {
+        Long userId = userRepository.findByUsername(user("author")).orElseThrow().getId();
+        // ties on every sort key, so the id tie-breaker decides page boundaries
+        jdbcTemplate.update("""
+                INSERT INTO review (user_id, content_id, rating, created_at, helpful_count)
+                SELECT ?, ?, CASE WHEN i = 7 THEN NULL ELSE (i % 3) * 2.5 END,
+                       timestamp '2024-01-01 12:00:00.123456' + (i / 3) * interval '1 minute', i % 2
+                FROM generate_series(1, 7) AS i""", userId, contentId);
+
+        assertThat(walk(ReviewSort.NEWEST)).containsExactlyElementsOf(
+                expected("ORDER BY created_at DESC, id DESC"));
+        assertThat(walk(ReviewSort.HIGHEST)).containsExactlyElementsOf(
+                expected("AND rating IS NOT NULL ORDER BY rating DESC, id DESC"));
+        assertThat(walk(ReviewSort.HELPFUL)).containsExactlyElementsOf(
+                expected("ORDER BY helpful_count DESC, id DESC"));
+    }
+
+    private List<Long> walk(ReviewSort sort) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            ReviewPageDto page = reviewService.listReviews(contentId, sort, cursor, 2);
+            assertThat(page.getReviews()).hasSizeLessThanOrEqualTo(2);
+            page.getReviews().forEach(review -> ids.add(review.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private List<Long> expected(String orderBy) {
+        return jdbcTemplate.queryForList("SELECT id FROM review WHERE content_id = ? " + orderBy, Long.class, contentId);
+    }
+
+    private void applyDelta(int delta, double ratingDelta, int bucket) {
+        transactionTemplate.executeWithoutResult(status ->
+                ratingAggregateRepository.applyDelta(contentId, delta, ratingDelta, bucket));
+    }
+
+    private ContentRatingAggregate aggregate() {
+        return ratingAggregateRepository.findById(contentId).orElseThrow();
+    }
+
+    private ReviewDto review(String username, Double rating) {
+        CreateReviewRequest request = new CreateReviewRequest();
+        request.setMovieId(contentId);
+        request.setRating(rating);
+        request.setReviewText("Review by " + username);
+        return reviewService.addReview(username, request);
+    }
+
+    private String user(String name) {
+        String username = prefix + name;
+        userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("not-used")
+                .roles(Set.of("ROLE_USER"))
+                .build());
+        return username;
+    }
+}
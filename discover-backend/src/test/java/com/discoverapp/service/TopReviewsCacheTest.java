@@ -0,0 +1,79 @@
+package com.discoverapp.service;
+
+import com.discoverapp.dto.ReviewPageDto;
+import com.discoverapp.types.ReviewSort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopReviewsCacheTest {
+    private final TopReviewsCache cache = new TopReviewsCache(10);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void firstPageIsLoadedOncePerContentAndSort() {
+        ReviewPageDto first = cache.get(1L, ReviewSort.NEWEST, this::load);
+
+        assertThat(cache.get(1L, ReviewSort.NEWEST, this::load)).isSameAs(first);
+        cache.get(1L, ReviewSort.HELPFUL, this::load);
+        cache.get(2L, ReviewSort.NEWEST, this::load);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void pageLoadedAcrossAnEvictionIsNotCached() {
+        ReviewPageDto stale = cache.get(1L, ReviewSort.NEWEST, () -> {
+            cache.evictAfterCommit(1L); // a review commits while the page is being read
+            return load();
+        });
+
+        ReviewPageDto fresh = cache.get(1L, ReviewSort.NEWEST, this::load);
+
+        assertThat(fresh).isNotSameAs(stale);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evictionWithoutATransactionIsImmediate() {
+        cache.get(1L, ReviewSort.NEWEST, this::load);
+        cache.get(1L, ReviewSort.HIGHEST, this::load);
+
+        cache.evictAfterCommit(1L);
+        cache.get(1L, ReviewSort.NEWEST, this::load);
+        cache.get(1L, ReviewSort.HIGHEST, this::load);
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void evictionInsideATransactionWaitsForTheCommit() {
+        ReviewPageDto cached = cache.get(1L, ReviewSort.NEWEST, this::load);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evictAfterCommit(1L);
+        assertThat(cache.get(1L, ReviewSort.NEWEST, this::load)).isSameAs(cached);
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        assertThat(cache.get(1L, ReviewSort.NEWEST, this::load)).isNotSameAs(cached);
+    }
+
+    private ReviewPageDto load() {
+        loads.incrementAndGet();
+        return new ReviewPageDto(List.of(), null);
+    }
+}
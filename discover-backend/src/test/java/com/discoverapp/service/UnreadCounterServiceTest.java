@@ -0,0 +1,61 @@
+package com.discoverapp.service;
+
+import com.discoverapp.PostgresIntegrationTest;
+import com.discoverapp.entity.Channel;
+import com.discoverapp.repository.ChannelMessageCountRepository;
+import com.discoverapp.repository.ChannelRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UnreadCounterServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private UnreadCounterService unreadCounterService;
+
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private ChannelMessageCountRepository channelMessageCountRepository;
+
+    private Long channelId;
+
+    @BeforeEach
+    void setUp() {
+        channelId = channelRepository.save(Channel.builder()
+                .name("unread-" + System.nanoTime())
+                .createdAt(LocalDateTime.now())
+                .build()).getId();
+    }
+
+    @Test
+    void pendingMessagesAddToThePersistedCount() {
+        assertThat(unreadCounterService.recordMessage(channelId)).isEqualTo(1);
+        assertThat(unreadCounterService.recordMessage(channelId)).isEqualTo(2);
+        assertThat(unreadCounterService.currentCount(channelId, 0)).isEqualTo(2);
+
+        unreadCounterService.flush();
+
+        assertThat(channelMessageCountRepository.findMessageCount(channelId)).contains(2L);
+        assertThat(unreadCounterService.currentCount(channelId)).isEqualTo(2);
+        assertThat(unreadCounterService.currentCount(channelId, 2)).isEqualTo(2);
+    }
+
+    @Test
+    void flushPicksUpOtherNodesIncrements() {
+        unreadCounterService.recordMessage(channelId);
+        unreadCounterService.flush();
+
+        // another node flushes its own posts to the shared row
+        channelMessageCountRepository.incrementMessageCount(channelId, 10);
+        assertThat(unreadCounterService.currentCount(channelId)).isEqualTo(11);
+
+        unreadCounterService.flush(); // nothing pending here, the snapshot is still refreshed
+        assertThat(unreadCounterService.recordMessage(channelId)).isEqualTo(12);
+    }
+}
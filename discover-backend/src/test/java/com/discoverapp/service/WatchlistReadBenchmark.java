@@ -0,0 +1,142 @@
+package com.discoverapp.service;
+
+import com.discoverapp.PostgresIntegrationTest;
+import com.discoverapp.SqlStatementRecorder;
+import com.discoverapp.entity.Genre;
+import com.discoverapp.entity.WatchlistItem;
+import com.discoverapp.types.WatchListItemStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Watchlist reads at ITEMS items for one user, each content row carrying a few KB of description and cast text.
+ * The slim card query is compared with the entity read it replaced (items fetch-joined to full Content rows,
+ * genres touched per item). Prints statements and mean latency per read; run with {@code mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+class WatchlistReadBenchmark extends PostgresIntegrationTest {
+    private static final int ITEMS = 5_000;
+    private static final int PAGE_SIZE = 50;
+    private static final String LOB_TEXT = "lorem ipsum dolor sit amet ".repeat(150);
+
+    @Autowired
+    private WatchlistService watchlistService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+
+    @BeforeEach
+    void seed() {
+        String prefix = "wl-bench-" + UUID.randomUUID().toString().substring(0, 8);
+        userId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (username, email, password) VALUES (?, ?, 'x') RETURNING id",
+                Long.class, prefix, prefix + "@example.com");
+        Long genreA = genre(prefix + "-a");
+        Long genreB = genre(prefix + "-b");
+        // @Lob strings are written by Hibernate as large objects with the oid kept in the text column; seed them alike
+        jdbcTemplate.update("""
+                INSERT INTO content (title, description, cast_list, poster_url, type, label, external_id)
+                SELECT ? || '-' || i,
+                       lo_from_bytea(0, convert_to(?, 'UTF8'))::text,
+                       lo_from_bytea(0, convert_to(?, 'UTF8'))::text,
+                       'https://images.example/' || i || '.jpg', 'MOVIE', 'CONTENT', ? || '-' || i
+                FROM generate_series(1, ?) AS i""", prefix, LOB_TEXT, LOB_TEXT, prefix, ITEMS);
+        jdbcTemplate.update("""
+                INSERT INTO content_genre (content_id, genre_id)
+                SELECT c.id, g.id FROM content c CROSS JOIN (VALUES (?), (?)) AS g(id)
+                WHERE c.external_id LIKE ? || '-%'""", genreA, genreB, prefix);
+        jdbcTemplate.update("""
+                INSERT INTO watchlist_item (user_id, content_id, status, added_at)
+                SELECT ?, c.id, CASE WHEN c.id % 3 = 0 THEN 'WATCHED' ELSE 'WATCHLIST' END, now() - c.id * interval '1 second'
+                FROM content c WHERE c.external_id LIKE ? || '-%'""", userId, prefix);
+    }
+
+    @Test
+    void slimReadModelAgainstEntityRead() throws Throwable {
+        Pageable firstPage = PageRequest.of(0, PAGE_SIZE);
+
+        Result page = measure("card query, page of " + PAGE_SIZE, 200,
+                () -> watchlistService.listWatchlistItems(userId, null, firstPage).size());
+        Result filtered = measure("card query, page of " + PAGE_SIZE + " by status", 200,
+                () -> watchlistService.listWatchlistItems(userId, WatchListItemStatus.WATCHED, firstPage).size());
+        Result all = measure("card query, all " + ITEMS, 10,
+                () -> watchlistService.listWatchlistItems(userId, null, Pageable.unpaged()).size());
+        Result entityPage = measure("entity read, page of " + PAGE_SIZE, 50, () -> entityRead(PAGE_SIZE));
+        Result entityAll = measure("entity read, all " + ITEMS, 3, () -> entityRead(ITEMS));
+
+        assertThat(page.rows()).isEqualTo(PAGE_SIZE);
+        assertThat(filtered.rows()).isEqualTo(PAGE_SIZE);
+        assertThat(all.rows()).isEqualTo(ITEMS);
+        assertThat(entityPage.rows()).isEqualTo(PAGE_SIZE);
+        assertThat(entityAll.rows()).isEqualTo(ITEMS);
+        // cards, then genres for those cards: independent of page size
+        assertThat(page.statements()).isLessThanOrEqualTo(2);
+        assertThat(all.statements()).isLessThanOrEqualTo(2);
+    }
+
+    // The pre-projection read: full Content rows (with the LOB columns) per item, genres loaded per item
+    private int entityRead(int limit) {
+        return transactionTemplate.execute(status -> {
+            List<WatchlistItem> items = entityManager.createQuery(
+                            "SELECT w FROM WatchlistItem w JOIN FETCH w.content WHERE w.user.id = :userId "
+                                    + "ORDER BY w.addedAt DESC, w.id DESC", WatchlistItem.class)
+                    .setParameter("userId", userId)
+                    .setMaxResults(limit)
+                    .getResultList();
+            for (WatchlistItem item : items) {
+                item.getContent().getGenres().stream().map(Genre::getName).toList();
+            }
+            return items.size();
+        });
+    }
+
+    private Result measure(String name, int iterations, ThrowingSupplier<Integer> read) throws Throwable {
+        read.get(); // warm-up
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        int[] rows = new int[1];
+        int statements = SqlStatementRecorder.record(() -> rows[0] = read.get()).size();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            read.get();
+        }
+        double meanMs = (System.nanoTime() - start) / 1e6 / iterations;
+        System.out.printf("%-40s %5d rows %6d statements %9.2f ms/read%n", name, rows[0], statements, meanMs);
+        return new Result(rows[0], statements);
+    }
+
+    private Long genre(String name) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO genre (external_id, name, content_type) VALUES (?, ?, 0) RETURNING id",
+                Long.class, (long) name.hashCode(), name);
+    }
+
+    private record Result(int rows, int statements) {
+    }
+}
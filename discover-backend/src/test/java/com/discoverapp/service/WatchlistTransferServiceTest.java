@@ -0,0 +1,97 @@
+package com.discoverapp.service;
+
+import com.discoverapp.PostgresIntegrationTest;
+import com.discoverapp.dto.ContentDto;
+import com.discoverapp.dto.WatchlistImportResult;
+import com.discoverapp.entity.User;
+import com.discoverapp.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WatchlistTransferServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private WatchlistTransferService watchlistTransferService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String username;
+    private String prefix;
+
+    @BeforeEach
+    void setUp() {
+        prefix = "transfer-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        username = prefix + "user";
+        userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("not-used")
+                .roles(Set.of("ROLE_USER"))
+                .build());
+        when(tmdbClient.fetchMovieDetails(anyString())).thenAnswer(invocation -> upstream(invocation.getArgument(0)));
+        when(tmdbClient.fetchSeriesDetails(anyString())).thenAnswer(invocation -> upstream(invocation.getArgument(0)));
+    }
+
+    @Test
+    void seriesMissesAreLookedUpAsSeries() throws IOException {
+        WatchlistImportResult result = importCsv(prefix + "tv,SERIES,WATCHLIST,,\n");
+
+        assertThat(result.getImported()).isEqualTo(1);
+        verify(tmdbClient).fetchSeriesDetails(prefix + "tv");
+        verify(tmdbClient, never()).fetchMovieDetails(prefix + "tv");
+    }
+
+    @Test
+    void importKeepsAddedAt() throws IOException {
+        importCsv(prefix + "movie,MOVIE,WATCHED,,2021-03-04T05:06:07\n");
+
+        assertThat(exportCsv()).contains(prefix + "movie,MOVIE,WATCHED,Title " + prefix + "movie,2021-03-04T05:06:07");
+    }
+
+    @Test
+    void repeatedEntriesKeepTheLastOne() throws IOException {
+        WatchlistImportResult result = importCsv(
+                prefix + "twice,MOVIE,WATCHLIST,,2021-01-01T00:00\n" + prefix + "twice,MOVIE,WATCHED,,2022-01-01T00:00\n");
+
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(exportCsv()).contains(prefix + "twice,MOVIE,WATCHED,Title " + prefix + "twice,2022-01-01T00:00");
+    }
+
+    private WatchlistImportResult importCsv(String rows) throws IOException {
+        byte[] csv = (WatchlistTransferService.CSV_HEADER + "\n" + rows).getBytes(StandardCharsets.UTF_8);
+        return watchlistTransferService.importWatchlist(username, new ByteArrayInputStream(csv), false);
+    }
+
+    private String exportCsv() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        watchlistTransferService.exportWatchlist(username, out, false);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static ContentDto upstream(String externalId) {
+        ContentDto dto = new ContentDto();
+        dto.setExternalId(externalId);
+        dto.setTitle("Title " + externalId);
+        dto.setGenreIds(List.of());
+        dto.setImageUrls(List.of());
+        dto.setRecommendedContentIds(List.of());
+        return dto;
+    }
+}
@@ -0,0 +1,82 @@
+package com.discoverapp.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scan cost of the content filter against dictionary size; the scan should stay flat from 100 to 10k patterns.
+ * Not a test: run on demand with
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main AhoCorasickMatcherBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AhoCorasickMatcherBenchmark {
+
+    @Param({"100", "10000"})
+    int patternCount;
+
+    private List<String> patterns;
+    private AhoCorasickMatcher matcher;
+    private String cleanMessage;
+    private String blockedMessage;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        patterns = new ArrayList<>(patternCount);
+        for (int i = 0; i < patternCount; i++) {
+            patterns.add(word(random, 5 + random.nextInt(6)));
+        }
+        matcher = AhoCorasickMatcher.compile(patterns);
+
+        // About 2 KB of short words, so most of the text walks shallow trie paths without matching
+        StringBuilder text = new StringBuilder();
+        while (text.length() < 2048) {
+            text.append(word(random, 2 + random.nextInt(3))).append(' ');
+        }
+        cleanMessage = text.toString();
+        blockedMessage = cleanMessage + patterns.get(patternCount - 1);
+    }
+
+    @Benchmark
+    public boolean scanCleanMessage() {
+        return matcher.matches(cleanMessage);
+    }
+
+    @Benchmark
+    public String scanBlockedMessage() {
+        return matcher.findFirst(blockedMessage);
+    }
+
+    @Benchmark
+    public AhoCorasickMatcher compile() {
+        return AhoCorasickMatcher.compile(patterns);
+    }
+
+    private static String word(Random random, int length) {
+        char[] letters = new char[length];
+        for (int i = 0; i < length; i++) {
+            letters[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(letters);
+    }
+}
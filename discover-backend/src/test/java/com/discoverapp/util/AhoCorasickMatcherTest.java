@@ -0,0 +1,95 @@
+package com.discoverapp.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AhoCorasickMatcherTest {
+
+    @Test
+    void emptyDictionaryMatchesNothing() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.empty();
+
+        assertThat(matcher.matches("anything at all")).isFalse();
+        assertThat(matcher.findFirst("anything at all")).isNull();
+        assertThat(matcher.nodeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void patternsWithoutLettersAreIgnored() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("", "  ", "!?"));
+
+        assertThat(matcher.nodeCount()).isEqualTo(1);
+        assertThat(matcher.matches("!? !?")).isFalse();
+    }
+
+    @Test
+    void nullOrEmptyTextMatchesNothing() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("spam"));
+
+        assertThat(matcher.findFirst(null)).isNull();
+        assertThat(matcher.findFirst("")).isNull();
+    }
+
+    @Test
+    void overlappingPatternsOnlyMatchWholeWords() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("he", "she", "his", "hers"));
+
+        assertThat(matcher.findFirst("ushers")).isNull();
+        assertThat(matcher.findFirst("she said")).isEqualTo("she");
+        assertThat(matcher.findFirst("that is hers")).isEqualTo("hers");
+        assertThat(matcher.findFirst("the hero")).isNull();
+    }
+
+    @Test
+    void suffixPatternIsFoundThroughOutputLinks() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("ass", "class"));
+
+        assertThat(matcher.findFirst("bass class")).isEqualTo("class");
+        assertThat(matcher.findFirst("bass ass")).isEqualTo("ass");
+        assertThat(matcher.findFirst("bass")).isNull();
+    }
+
+    @Test
+    void prefixPatternDoesNotHideLongerOne() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("spam", "spammer"));
+
+        assertThat(matcher.findFirst("a spammer")).isEqualTo("spammer");
+        assertThat(matcher.findFirst("spam here")).isEqualTo("spam");
+        assertThat(matcher.findFirst("spamm")).isNull();
+    }
+
+    @Test
+    void firstMatchInTextWins() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("scam", "spam"));
+
+        assertThat(matcher.findFirst("spam then scam")).isEqualTo("spam");
+    }
+
+    @Test
+    void leetSpeakAndCaseAreNormalisedInText() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("spam", "test"));
+
+        assertThat(matcher.findFirst("$P4M")).isEqualTo("spam");
+        assertThat(matcher.findFirst("5p@m!")).isEqualTo("spam");
+        assertThat(matcher.findFirst("T357")).isEqualTo("test");
+    }
+
+    @Test
+    void leetSpeakIsNormalisedInPatterns() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("5P4M"));
+
+        assertThat(matcher.findFirst("spam")).isEqualTo("spam");
+    }
+
+    @Test
+    void punctuationSeparatesWordsAndMultiWordPatterns() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("buy now"));
+
+        assertThat(matcher.findFirst("please buy now!")).isEqualTo("buy now");
+        assertThat(matcher.findFirst("buy-now")).isEqualTo("buy now");
+        assertThat(matcher.findFirst("buynow")).isNull();
+    }
+}
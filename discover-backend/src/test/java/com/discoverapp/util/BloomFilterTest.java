@@ -0,0 +1,78 @@
+package com.discoverapp.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+
+        assertThat(IntStream.range(0, 1000).mapToObj(i -> "session-" + i).anyMatch(filter::mightContain)).isFalse();
+    }
+
+    @Test
+    void everyInsertedValueIsFound() {
+        BloomFilter filter = new BloomFilter(10_000, 0.001);
+        List<String> sessionIds = sessionIds(10_000);
+
+        sessionIds.forEach(filter::put);
+
+        assertThat(sessionIds).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void falsePositiveRateStaysNearConfiguredRateAtCapacity() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        sessionIds(10_000).forEach(filter::put);
+
+        long falsePositives = sessionIds(100_000).stream().filter(filter::mightContain).count();
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    void survivesDegenerateSizing() {
+        BloomFilter filter = new BloomFilter(0, 0.5);
+
+        filter.put("a");
+
+        assertThat(filter.mightContain("a")).isTrue();
+        assertThat(filter.mightContain("")).isFalse();
+    }
+
+    @Test
+    void concurrentPutsAreNotLost() throws Exception {
+        BloomFilter filter = new BloomFilter(40_000, 0.001);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<List<String>>> batches = new ArrayList<>();
+        try {
+            for (int t = 0; t < 4; t++) {
+                batches.add(executor.submit(() -> {
+                    List<String> ids = sessionIds(10_000);
+                    ids.forEach(filter::put);
+                    return ids;
+                }));
+            }
+            for (Future<List<String>> batch : batches) {
+                assertThat(batch.get()).allMatch(filter::mightContain);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<String> sessionIds(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID().toString()).toList();
+    }
+}
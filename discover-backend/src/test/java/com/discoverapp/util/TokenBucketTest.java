@@ -0,0 +1,89 @@
+package com.discoverapp.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+    private static final long HOUR = TimeUnit.HOURS.toNanos(1);
+
+    @Test
+    void allowsUpToCapacityThenRejects() {
+        TokenBucket bucket = new TokenBucket(3, 3, HOUR);
+
+        assertThat(bucket.tryConsume(1).remaining()).isEqualTo(2);
+        assertThat(bucket.tryConsume(1).allowed()).isTrue();
+        assertThat(bucket.tryConsume(1).allowed()).isTrue();
+
+        TokenBucket.Probe rejected = bucket.tryConsume(1);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.remaining()).isZero();
+        // one token comes back every 20 minutes
+        assertThat(rejected.nanosToWait()).isPositive().isLessThanOrEqualTo(TimeUnit.MINUTES.toNanos(20));
+    }
+
+    @Test
+    void costIsTakenAtOnceOrNotAtAll() {
+        TokenBucket bucket = new TokenBucket(10, 10, HOUR);
+
+        assertThat(bucket.tryConsume(8).allowed()).isTrue();
+        assertThat(bucket.tryConsume(5).allowed()).isFalse();
+        assertThat(bucket.tryConsume(2).allowed()).isTrue();
+    }
+
+    @Test
+    void refillsWithElapsedTime() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1, 1, TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(bucket.tryConsume(1).allowed()).isTrue();
+        assertThat(bucket.tryConsume(1).allowed()).isFalse();
+
+        Thread.sleep(40);
+
+        assertThat(bucket.tryConsume(1).allowed()).isTrue();
+    }
+
+    @Test
+    void refillNeverExceedsCapacity() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(2, 1, TimeUnit.MILLISECONDS.toNanos(1));
+
+        Thread.sleep(20);
+
+        assertThat(bucket.peek(1).remaining()).isEqualTo(2);
+    }
+
+    @Test
+    void peekTakesNothing() {
+        TokenBucket bucket = new TokenBucket(1, 1, HOUR);
+
+        assertThat(bucket.peek(1).allowed()).isTrue();
+        assertThat(bucket.peek(1).allowed()).isTrue();
+        assertThat(bucket.tryConsume(1).allowed()).isTrue();
+        assertThat(bucket.peek(1).allowed()).isFalse();
+    }
+
+    @Test
+    void concurrentCallersNeverOverdraw() throws Exception {
+        TokenBucket bucket = new TokenBucket(1000, 1000, HOUR);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 2000; i++) {
+                pool.execute(() -> {
+                    if (bucket.tryConsume(1).allowed()) {
+                        allowed.incrementAndGet();
+                    }
+                });
+            }
+        } finally {
+            pool.shutdown();
+            assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(allowed.get()).isEqualTo(1000);
+    }
+}
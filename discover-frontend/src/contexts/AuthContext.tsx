@@ -64,10 +64,11 @@ export const AuthProvider: React.FC<AuthProviderProps> = ({ children }) => {
     try {
       console.log('Attempting login with:', credentials);
       const response = await authAPI.login(credentials);
-      const { token } = response.data;
+      const { token, refreshToken } = response.data;
 
       console.log('Received token:', token);
       localStorage.setItem('token', token);
+      localStorage.setItem('refreshToken', refreshToken);
 
       // Decode the JWT token to get user information
       const decodedToken = decodeJwtToken(token);
@@ -134,7 +135,12 @@ export const AuthProvider: React.FC<AuthProviderProps> = ({ children }) => {
   };
 
   const logout = (): void => {
+    const refreshToken = localStorage.getItem('refreshToken');
+    if (refreshToken) {
+      authAPI.logout(refreshToken).catch((error) => console.error('Logout error:', error));
+    }
     localStorage.removeItem('token');
+    localStorage.removeItem('refreshToken');
     setUser(null);
   };
 
@@ -1,6 +1,6 @@
 import React, { useState, useEffect, useRef } from 'react';
 import { useParams, useNavigate } from 'react-router-dom';
-import { useQuery, useMutation, useQueryClient } from 'react-query';
+import { useQuery, useInfiniteQuery, useMutation, useQueryClient } from 'react-query';
 import { messagesAPI, channelsAPI } from '../services/api';
 import { MessageDto, CreateMessageRequest, ChannelDto } from '../types';
 import { useAuth } from '../contexts/AuthContext';
@@ -26,6 +26,8 @@ import {
 } from '@mui/material';
 import { Send, Group, Person, ArrowBack, Delete, ExitToApp } from '@mui/icons-material';
 
+const MESSAGE_PAGE_SIZE = 100;
+
 const ChannelChat = () => {
   const { channelId } = useParams<{ channelId: string }>();
   const queryClient = useQueryClient();
@@ -43,13 +45,33 @@ const ChannelChat = () => {
     { enabled: !!channelId, retry: false }
   );
 
-  // Fetch messages
-  const { data: messages = [], isLoading: messagesLoading } = useQuery<MessageDto[]>(
+  // Fetch messages, newest page first; each further page goes back from the oldest message loaded so far
+  const {
+    data: messagePages,
+    isLoading: messagesLoading,
+    fetchNextPage: fetchOlderMessages,
+    hasNextPage: hasOlderMessages,
+    isFetchingNextPage: loadingOlderMessages,
+  } = useInfiniteQuery<MessageDto[]>(
     ['messages', channelId],
-    () => messagesAPI.getMessages(Number(channelId)).then(res => res.data),
-    { enabled: !!channelId && !!channel }
+    ({ pageParam }) =>
+      messagesAPI.getMessages(Number(channelId), pageParam, MESSAGE_PAGE_SIZE).then(res => res.data),
+    {
+      enabled: !!channelId && !!channel,
+      getNextPageParam: (lastPage) =>
+        lastPage.length < MESSAGE_PAGE_SIZE ? undefined : lastPage[0].id,
+    }
   );
 
+  // Older pages go in front; a refetch after posting can shift a message across a page boundary, so drop repeats
+  const seenMessageIds = new Set<number>();
+  const messages = (messagePages?.pages ?? [])
+    .slice()
+    .reverse()
+    .reduce<MessageDto[]>((all, page) => all.concat(page), [])
+    .filter(msg => !seenMessageIds.has(msg.id) && !!seenMessageIds.add(msg.id));
+  const newestMessageId = messages.length > 0 ? messages[messages.length - 1].id : undefined;
+
   // Join channel mutation
   const joinChannelMutation = useMutation(
     (channelId: number) => channelsAPI.joinChannel(channelId).then(res => res.data),
@@ -102,12 +124,12 @@ const ChannelChat = () => {
     }
   );
 
-  // Scroll to bottom when messages change
+  // Scroll to bottom when a new message arrives, not when older history is loaded above
   useEffect(() => {
     if (messagesEndRef.current) {
       messagesEndRef.current.scrollIntoView({ behavior: 'smooth' });
     }
-  }, [messages]);
+  }, [newestMessageId]);
 
   const handleSend = () => {
     if (message.trim()) {
@@ -268,6 +290,17 @@ const ChannelChat = () => {
 
       {/* Chat Section */}
       <Paper sx={{ p: 2, minHeight: 400, maxHeight: 500, overflowY: 'auto', display: 'flex', flexDirection: 'column' }}>
+        {hasOlderMessages && (
+          <Box sx={{ display: 'flex', justifyContent: 'center', mb: 2 }}>
+            <Button
+              size="small"
+              onClick={() => fetchOlderMessages()}
+              disabled={loadingOlderMessages}
+            >
+              {loadingOlderMessages ? <CircularProgress size={16} /> : 'Load older messages'}
+            </Button>
+          </Box>
+        )}
         {messages.length === 0 && (
           <Typography color="text.secondary" align="center" sx={{ mt: 4 }}>
             No messages yet. Start the conversation!
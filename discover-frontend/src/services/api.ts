@@ -13,6 +13,8 @@ import {
   AddToWatchListRequest,
   UpdateWatchListItem,
   ReviewDto,
+  ReviewPageDto,
+  ReviewSort,
   CreateReviewRequest,
   RecommendationRequest,
   UserProfileDto,
@@ -48,12 +50,44 @@ api.interceptors.request.use(
   }
 );
 
-// Response interceptor to handle token expiration
+// Single in-flight refresh shared by all requests that hit 401 at the same time
+let refreshPromise: Promise<string> | null = null;
+
+const refreshAccessToken = (): Promise<string> => {
+  if (!refreshPromise) {
+    const refreshToken = localStorage.getItem('refreshToken');
+    refreshPromise = (refreshToken
+      ? axios.post<AuthResponse>(`${API_BASE_URL}/api/auth/refresh`, { refreshToken }).then((response) => {
+          localStorage.setItem('token', response.data.token);
+          localStorage.setItem('refreshToken', response.data.refreshToken);
+          return response.data.token;
+        })
+      : Promise.reject(new Error('No refresh token'))
+    ).finally(() => {
+      refreshPromise = null;
+    });
+  }
+  return refreshPromise;
+};
+
+// Response interceptor to handle token expiration: try one refresh, then fall back to the login page
 api.interceptors.response.use(
   (response) => response,
-  (error) => {
+  async (error) => {
+    const original = error.config;
+    if (error.response?.status === 401 && original && !original._retry && !original.url?.startsWith('/api/auth/')) {
+      original._retry = true;
+      try {
+        const token = await refreshAccessToken();
+        original.headers.Authorization = `Bearer ${token}`;
+        return api(original);
+      } catch (refreshError) {
+        // fall through to logout
+      }
+    }
     if (error.response?.status === 401) {
       localStorage.removeItem('token');
+      localStorage.removeItem('refreshToken');
       window.location.href = '/login';
     }
     return Promise.reject(error);
@@ -66,6 +100,8 @@ export const authAPI = {
     api.post('/api/auth/login', credentials),
   register: (userData: RegisterData): Promise<AxiosResponse<string>> =>
     api.post('/api/auth/register', userData),
+  logout: (refreshToken: string): Promise<AxiosResponse<void>> =>
+    api.post('/api/auth/logout', { refreshToken }),
 };
 
 // User API
@@ -112,11 +148,15 @@ export const channelsAPI = {
     console.log('API: Leaving channel', channelId);
     return api.delete(`/api/channels/leave/${channelId}`);
   },
+  markChannelRead: (channelId: number, lastReadMessageId?: number): Promise<AxiosResponse<void>> =>
+    api.post(`/api/channels/${channelId}/read`, null, { params: { lastReadMessageId } }),
 };
 
 // Messages API
 export const messagesAPI = {
-  getMessages: (channelId: number) => api.get(`/api/messages/channel/${channelId}`),
+  // Newest page when beforeId is omitted; pass the oldest loaded id to page further back
+  getMessages: (channelId: number, beforeId?: number, limit?: number) =>
+    api.get(`/api/messages/channel/${channelId}`, { params: { beforeId, limit } }),
   postMessage: (channelId: number, data: CreateMessageRequest) => api.post(`/api/messages/channel/${channelId}`, data),
 };
 
@@ -134,8 +174,10 @@ export const watchlistAPI = {
 
 // Reviews API
 export const reviewsAPI = {
-  getReviews: (contentId: number): Promise<AxiosResponse<ReviewDto[]>> =>
-    api.get(`/api/reviews/movie/${contentId}`),
+  getReviews: (contentId: number, sort?: ReviewSort, cursor?: string): Promise<AxiosResponse<ReviewPageDto>> =>
+    api.get(`/api/reviews/movie/${contentId}`, { params: { sort, cursor } }),
+  voteHelpful: (reviewId: number): Promise<AxiosResponse<void>> =>
+    api.post(`/api/reviews/${reviewId}/helpful`),
   createReview: (request: CreateReviewRequest): Promise<AxiosResponse<ReviewDto>> =>
     api.post('/api/reviews/add', request),
 };
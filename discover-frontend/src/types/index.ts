@@ -11,6 +11,8 @@ export interface RegisterData {
 
 export interface AuthResponse {
   token: string;
+  refreshToken: string;
+  expiresIn: number;
 }
 
 // User types
@@ -101,6 +103,8 @@ export interface ChannelDto {
   createdByUsername: string;
   memberCount: number;
   joined: boolean; // true if the current user is a member
+  lastReadMessageId?: number;
+  unreadCount: number;
 }
 
 // Alias for backward compatibility
@@ -121,6 +125,7 @@ export interface MessageDto {
   parentMessageId?: number;
   createdAt: string;
   moderated: boolean;
+  archived?: boolean;
 }
 
 export interface CreateMessageRequest {
@@ -165,6 +170,14 @@ export interface ReviewDto {
   rating: number;
   reviewText: string;
   createdAt: string;
+  helpfulCount: number;
+}
+
+export type ReviewSort = 'newest' | 'highest' | 'helpful';
+
+export interface ReviewPageDto {
+  reviews: ReviewDto[];
+  nextCursor: string | null;
 }
 
 export interface CreateReviewRequest {